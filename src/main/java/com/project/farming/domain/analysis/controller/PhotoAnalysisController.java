@@ -45,7 +45,28 @@ public class PhotoAnalysisController {
 
         PhotoAnalysis saved = photoAnalysisService.analyzePhotoAndSave(userId, file);
 
-        PhotoAnalysisSidebarResponseDto response = PhotoAnalysisSidebarResponseDto.builder()
+        return ResponseEntity.status(HttpStatus.CREATED).body(toSidebarResponse(saved));
+    }
+
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/analyze-uploaded")
+    @Operation(summary = "업로드된 사진 분석 요청", description = "/images/upload-url로 발급받은 URL에 업로드한 이미지를 AI 분석 후 DB에 저장합니다.")
+    public ResponseEntity<PhotoAnalysisSidebarResponseDto> analyzeUploadedPhoto(
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+
+            @Parameter(description = "업로드 URL 발급 시 받은 이미지 파일 ID", required = true)
+            @RequestParam Long imageFileId) {
+
+        Long userId = userDetails.getUser().getUserId();
+
+        PhotoAnalysis saved = photoAnalysisService.analyzeUploadedPhotoAndSave(userId, imageFileId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toSidebarResponse(saved));
+    }
+
+    private PhotoAnalysisSidebarResponseDto toSidebarResponse(PhotoAnalysis saved) {
+        return PhotoAnalysisSidebarResponseDto.builder()
                 .photoAnalysisId(saved.getPhotoAnalysisId())
                 .createdDate(saved.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
                 .detectedDisease(saved.getDetectedDisease())
@@ -53,7 +74,5 @@ public class PhotoAnalysisController {
                 .solution(saved.getSolution())
                 .imageUrl(saved.getPhotoImageFile().getImageUrl())
                 .build();
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
-}
\ No newline at end of file
+}
@@ -44,7 +44,25 @@ public class PhotoAnalysisService {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("분석을 위해 사진 파일을 반드시 전송해야 합니다.");
         }
+        User user = findUserAndCheckInterval(userId);
 
+        // 1) 이미지 S3 업로드
+        ImageFile uploadedImage = imageFileService.uploadImage(file, ImageDomainType.PHOTO, userId);
+        return analyzeAndSave(user, uploadedImage);
+    }
+
+    /**
+     * Presigned URL로 S3에 직접 업로드된 사진 분석 후 DB 저장
+     * - 동일 유저 10초 이내 중복 요청 차단
+     */
+    @Transactional
+    public PhotoAnalysis analyzeUploadedPhotoAndSave(Long userId, Long imageFileId) {
+        User user = findUserAndCheckInterval(userId);
+        ImageFile uploadedImage = imageFileService.attachUploadedImage(imageFileId, userId, ImageDomainType.PHOTO, userId);
+        return analyzeAndSave(user, uploadedImage);
+    }
+
+    private User findUserAndCheckInterval(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다. userId=" + userId));
 
@@ -52,10 +70,10 @@ public class PhotoAnalysisService {
         if (lastAnalysis != null && lastAnalysis.getCreatedAt().isAfter(LocalDateTime.now().minusSeconds(10))) {
             throw new IllegalStateException("잠시 후 다시 시도해 주세요. 연속 분석 요청은 10초 후 가능합니다.");
         }
+        return user;
+    }
 
-        // 1) 이미지 S3 업로드
-        ImageFile uploadedImage = imageFileService.uploadImage(file, ImageDomainType.PHOTO, userId);
-
+    private PhotoAnalysis analyzeAndSave(User user, ImageFile uploadedImage) {
         // 2) WebClient를 통한 AI 서버 호출
         AnalysisRequest request = new AnalysisRequest(uploadedImage.getImageUrl());
 
@@ -4,8 +4,6 @@ import com.project.farming.domain.chat.dto.ChatRequestDto;
 import com.project.farming.domain.chat.dto.ChatResponseDto;
 import com.project.farming.domain.chat.dto.ChatRoomDto;
 import com.project.farming.domain.chat.dto.PythonChatDto;
-import com.project.farming.domain.chat.entity.Chat;
-import com.project.farming.domain.chat.repository.ChatRepository;
 import com.project.farming.domain.chat.service.ChatService;
 import com.project.farming.domain.user.entity.User;
 import com.project.farming.global.jwtToken.CustomUserDetails;
@@ -17,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Chat API", description = "작물 챗봇 질문 및 답변 API")
 @RestController
@@ -25,75 +24,58 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService chatService;
-    private final ChatRepository chatRepository; // 세션 ID 조회를 위해 추가
 
     @Operation(summary = "챗봇 질문 전송", description = "사용자의 질문을 Python 챗봇 서버로 보내고 응답을 반환합니다. 대화 맥락이 유지됩니다.")
     @PostMapping
-    public ResponseEntity<ChatResponseDto> chat(
+    public CompletableFuture<ResponseEntity<ChatResponseDto>> chat(
             @RequestBody ChatRequestDto requestBody,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         User user = (userDetails != null ? userDetails.getUser() : null);
 
-        ChatResponseDto responseDto = chatService.askPythonAgent(
+        return chatService.askPythonAgent(
                 user,
                 requestBody.getChatId(), // 클라이언트가 보낸 chatId
                 requestBody.getQuery()
-        );
-
-        return ResponseEntity.ok(responseDto);
+        ).thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "특정 대화의 답변만 조회", description = "FastAPI에서 특정 세션의 모든 메시지 중 챗봇 답변(assistant)만 조회합니다.")
     @GetMapping("/history/messages")
-    public ResponseEntity<List<PythonChatDto.PythonChatMessage>> getChatSessionMessages(
+    public CompletableFuture<ResponseEntity<List<PythonChatDto.PythonChatMessage>>> getChatSessionMessages(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam("chatId") Long chatId) { // ✨ @RequestParam에 이름 명시
 
-        User user = userDetails.getUser();
-        Long userId = user.getUserId();
-
-        chatService.validateChatHistoryOwnership(userId, chatId);
-
-        Long pythonSessionId = chatRepository.findById(chatId)
-                .map(Chat::getPythonSessionId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 정보를 찾을 수 없습니다."));
-
-        List<PythonChatDto.PythonChatMessage> sessionMessages = chatService.getSessionMessagesFromPython(pythonSessionId);
+        Long userId = userDetails.getUser().getUserId();
+        Long pythonSessionId = chatService.findOwnedPythonSessionId(userId, chatId);
 
-        return ResponseEntity.ok(sessionMessages);
+        return chatService.getSessionMessagesFromPython(pythonSessionId)
+                .thenApply(ResponseEntity::ok);
     }
     // ✨ [수정된 부분]
     @Operation(summary = "특정 채팅방의 전체 응답 내용 조회", description = "특정 채팅방의 전체 응답 내용 조회 (user, assistant)을 모두 조회합니다.")
     @GetMapping("/history/messages/all")
-    public ResponseEntity<List<PythonChatDto.PythonChatMessage>> getChatSessionMessagesAll(
+    public CompletableFuture<ResponseEntity<List<PythonChatDto.PythonChatMessage>>> getChatSessionMessagesAll(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam("chatId") Long chatId) {
 
         Long userId = userDetails.getUser().getUserId();
-
-        chatService.validateChatHistoryOwnership(userId, chatId);
-
-        Long pythonSessionId = chatRepository.findById(chatId)
-                .map(Chat::getPythonSessionId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 정보를 찾을 수 없습니다."));
+        Long pythonSessionId = chatService.findOwnedPythonSessionId(userId, chatId);
 
         // 새로 추가한 전체 메시지 조회 메소드 호출
-        List<PythonChatDto.PythonChatMessage> sessionMessages = chatService.getAllSessionMessagesFromPython(pythonSessionId);
-
-        return ResponseEntity.ok(sessionMessages);
+        return chatService.getAllSessionMessagesFromPython(pythonSessionId)
+                .thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "최신 챗봇 대화방 목록 조회", description = "사용자의 최신 대화 목록을 조회합니다. Spring의 chatId와 Python의 sessionId를 함께 반환합니다.")
     @GetMapping("/sessions")
-    public ResponseEntity<List<ChatRoomDto>> getChatRoomList(
+    public CompletableFuture<ResponseEntity<List<ChatRoomDto>>> getChatRoomList(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         User user = userDetails.getUser();
 
-        List<ChatRoomDto> chatRooms = chatService.getChatRoomList(user);
-
-        return ResponseEntity.ok(chatRooms);
+        return chatService.getChatRoomList(user)
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -101,13 +83,13 @@ public class ChatController {
      */
     @Operation(summary = "챗봇 대화방 삭제", description = "특정 챗봇 대화방을 삭제합니다.")
     @DeleteMapping("/{chatId}")
-    public ResponseEntity<Void> deleteChatRoom(
+    public CompletableFuture<ResponseEntity<Void>> deleteChatRoom(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long chatId) {
 
         Long userId = userDetails.getUser().getUserId();
-        chatService.deleteChatRoom(userId, chatId);
 
-        return ResponseEntity.ok().build();
+        return chatService.deleteChatRoom(userId, chatId)
+                .thenApply(ignored -> ResponseEntity.ok().<Void>build());
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.project.farming.domain.chat.repository;
 import com.project.farming.domain.chat.entity.Chat;
 import com.project.farming.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +22,10 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
     List<Chat> findByUser(User user);
 
     List<Chat> findByUser_UserId(Long userId);
+
+    /**
+     * 사용자 본인의 채팅방인 경우에만 Python 세션 ID 조회
+     */
+    @Query("SELECT c.pythonSessionId FROM Chat c WHERE c.chatId = :chatId AND c.user.userId = :userId")
+    Optional<Long> findPythonSessionIdByChatIdAndUserId(@Param("chatId") Long chatId, @Param("userId") Long userId);
 }
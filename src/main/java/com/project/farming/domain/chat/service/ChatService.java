@@ -7,17 +7,33 @@ import com.project.farming.domain.chat.dto.PythonSessionDto;
 import com.project.farming.domain.chat.entity.Chat;
 import com.project.farming.domain.chat.repository.ChatRepository;
 import com.project.farming.domain.user.entity.User;
+import com.project.farming.global.exception.AiAnalysisException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * 챗봇(Python 서버) 연동
+ * - Python 서버 호출은 블로킹하지 않고 CompletableFuture로 반환해서, 답변을 기다리는 동안 요청 스레드와 DB 연결을 점유하지 않음
+ * - DB 작업은 호출 전(요청 스레드)과 응답 이후(chatPersistenceExecutor)에 각각 짧은 트랜잭션으로 실행
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
@@ -27,42 +43,55 @@ public class ChatService {
     @Qualifier("pythonWebClient")
     private final WebClient pythonWebClient;
 
+    private final Executor chatPersistenceExecutor;
+
+    @Value("${python.client.chat-timeout-seconds:60}")
+    private long chatTimeoutSeconds;
+
+    @Value("${python.client.session-timeout-seconds:10}")
+    private long sessionTimeoutSeconds;
+
     /**
      * Python 챗봇 에이전트에게 질문하고 답변을 받습니다.
-     * 항상 새로운 세션을 생성합니다.
+     * chatId가 없으면 새로운 세션을 생성합니다.
      *
      * @param user      인증된 사용자 또는 null
      * @param question  클라이언트에서 받은 질문
      * @param chatId    세션 id 조회용 PK
      * @return 에이전트가 생성한 답변
      */
-    @Transactional
-    public ChatResponseDto askPythonAgent(User user, Long chatId, String question) {
+    public CompletableFuture<ChatResponseDto> askPythonAgent(User user, Long chatId, String question) {
         Long pythonSessionId = null;
 
         // --- 요청 처리: 클라이언트가 보낸 chatId(세션 ID)가 있는 경우 ---
         if (chatId != null) {
-            Chat existingChat = chatRepository.findById(chatId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다."));
-
-            // (보안) 본인 채팅방이 맞는지 확인
-            if (user != null && !existingChat.getUser().getUserId().equals(user.getUserId())) {
-                throw new SecurityException("해당 채팅방에 접근할 권한이 없습니다.");
-            }
-            // FastAPI에 보낼 pythonSessionId를 DB에서 조회
-            pythonSessionId = existingChat.getPythonSessionId();
+            // (보안) 본인 채팅방이 맞는지 확인하면서 FastAPI에 보낼 pythonSessionId를 DB에서 조회
+            pythonSessionId = user != null
+                    ? findOwnedPythonSessionId(user.getUserId(), chatId)
+                    : chatRepository.findById(chatId)
+                            .map(Chat::getPythonSessionId)
+                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다."));
         }
 
         // FastAPI 서버에 요청 (pythonSessionId가 null이면 FastAPI가 새 세션을 만듦)
         PythonChatDto.PythonChatRequest request = new PythonChatDto.PythonChatRequest(pythonSessionId, question);
 
-        PythonChatDto.PythonChatResponse responseFromPython = pythonWebClient.post()
+        return pythonWebClient.post()
                 .uri("/api/chat")
                 .bodyValue(request)
+                .httpRequest(responseTimeout(Duration.ofSeconds(chatTimeoutSeconds)))
                 .retrieve()
                 .bodyToMono(PythonChatDto.PythonChatResponse.class)
-                .block();
+                .onErrorMap(WebClientException.class, e -> pythonServerError("챗봇 질문", e))
+                .switchIfEmpty(Mono.error(() -> new AiAnalysisException("챗봇 서버가 응답하지 않았습니다.")))
+                .toFuture()
+                // 응답은 이벤트 루프 스레드에서 받으므로 DB 작업은 별도 스레드에서 실행
+                .thenApplyAsync(responseFromPython -> toChatResponse(user, chatId, question, responseFromPython),
+                        chatPersistenceExecutor);
+    }
 
+    private ChatResponseDto toChatResponse(User user, Long chatId, String question,
+                                           PythonChatDto.PythonChatResponse responseFromPython) {
         String answer = responseFromPython.getMessages().stream()
                 .filter(msg -> "assistant".equalsIgnoreCase(msg.getRole()))
                 .reduce((first, second) -> second)
@@ -87,26 +116,23 @@ public class ChatService {
                 .build();
     }
 
-    public void validateChatHistoryOwnership(Long userId, Long chatId) {
-        chatRepository.findById(chatId)
-                .filter(chat -> chat.getUser().getUserId().equals(userId))
+    /**
+     * 본인 채팅방인지 확인하고 Python 세션 ID 반환(쿼리 1회)
+     *
+     * @param userId 사용자 ID
+     * @param chatId 채팅방 ID (Spring DB 기준)
+     * @return Python 세션 ID
+     */
+    public Long findOwnedPythonSessionId(Long userId, Long chatId) {
+        return chatRepository.findPythonSessionIdByChatIdAndUserId(chatId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 채팅 기록을 조회할 수 없습니다."));
     }
 
-    public List<PythonChatDto.PythonChatMessage> getSessionMessagesFromPython(Long pythonSessionId) {
-        PythonChatDto.PythonChatResponse response = pythonWebClient.get()
-                .uri("/api/chat/sessions/{id}", pythonSessionId)
-                .retrieve()
-                .bodyToMono(PythonChatDto.PythonChatResponse.class)
-                .block();
-
-        if (response == null || response.getMessages() == null) {
-            return List.of();
-        }
-
-        return response.getMessages().stream()
-                .filter(msg -> "assistant".equalsIgnoreCase(msg.getRole()))
-                .collect(Collectors.toList());
+    public CompletableFuture<List<PythonChatDto.PythonChatMessage>> getSessionMessagesFromPython(Long pythonSessionId) {
+        return getAllSessionMessagesFromPython(pythonSessionId)
+                .thenApply(messages -> messages.stream()
+                        .filter(msg -> "assistant".equalsIgnoreCase(msg.getRole()))
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -115,40 +141,40 @@ public class ChatService {
      * @param pythonSessionId Python 세션 ID
      * @return 전체 대화 메시지 리스트
      */
-    public List<PythonChatDto.PythonChatMessage> getAllSessionMessagesFromPython(Long pythonSessionId) {
-        PythonChatDto.PythonChatResponse response = pythonWebClient.get()
+    public CompletableFuture<List<PythonChatDto.PythonChatMessage>> getAllSessionMessagesFromPython(Long pythonSessionId) {
+        return pythonWebClient.get()
                 .uri("/api/chat/sessions/{id}", pythonSessionId)
+                .httpRequest(responseTimeout(Duration.ofSeconds(sessionTimeoutSeconds)))
                 .retrieve()
                 .bodyToMono(PythonChatDto.PythonChatResponse.class)
-                .block();
-
-        if (response == null || response.getMessages() == null) {
-            return List.of();
-        }
-
-        // 필터링 로직을 제거하여 모든 메시지를 반환
-        return response.getMessages();
+                .onErrorMap(WebClientException.class, e -> pythonServerError("대화 내용 조회", e))
+                .map(response -> response.getMessages() != null ? response.getMessages() : List.<PythonChatDto.PythonChatMessage>of())
+                .defaultIfEmpty(List.of())
+                .toFuture();
     }
 
-
-    private List<PythonSessionDto> getSessionListFromPython() {
+    private Mono<List<PythonSessionDto>> getSessionListFromPython() {
         return pythonWebClient.get()
                 .uri("/api/chat/sessions")
+                .httpRequest(responseTimeout(Duration.ofSeconds(sessionTimeoutSeconds)))
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<List<PythonSessionDto>>() {})
-                .block();
+                .onErrorMap(WebClientException.class, e -> pythonServerError("대화 목록 조회", e))
+                .defaultIfEmpty(List.of());
     }
 
-    public List<ChatRoomDto> getChatRoomList(User user) {
-        Long userId = user.getUserId();
+    /**
+     * 채팅방 목록 조회
+     * - Python 서버 요청을 먼저 보내고, 응답을 기다리는 동안 사용자의 채팅방을 DB에서 조회
+     */
+    public CompletableFuture<List<ChatRoomDto>> getChatRoomList(User user) {
+        CompletableFuture<List<PythonSessionDto>> pythonSessionsFuture = getSessionListFromPython().toFuture();
 
         // 유저의 모든 Chat 엔티티 가져오기
-        Map<Long, Long> springChatToPythonSessionMap = chatRepository.findByUser_UserId(userId).stream()
+        Map<Long, Long> springChatToPythonSessionMap = chatRepository.findByUser_UserId(user.getUserId()).stream()
                 .collect(Collectors.toMap(Chat::getPythonSessionId, Chat::getChatId));
 
-        List<PythonSessionDto> pythonSessions = getSessionListFromPython();
-
-        return pythonSessions.stream()
+        return pythonSessionsFuture.thenApply(pythonSessions -> pythonSessions.stream()
                 .filter(pythonSession -> springChatToPythonSessionMap.containsKey(pythonSession.getId()))
                 .map(pythonSession -> ChatRoomDto.builder()
                         .chatId(springChatToPythonSessionMap.get(pythonSession.getId()))
@@ -158,31 +184,42 @@ public class ChatService {
                         .updatedAt(pythonSession.getUpdatedAt())
                         .messageCount(pythonSession.getMessageCount())
                         .build())
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
+
     /**
      * 채팅방을 삭제합니다.
      * @param userId 사용자 ID
      * @param chatId 삭제할 채팅방 ID (Spring DB 기준)
      */
-    @Transactional
-    public void deleteChatRoom(Long userId, Long chatId) {
-        // 1. 본인 소유의 채팅방인지 확인
-        validateChatHistoryOwnership(userId, chatId);
-
-        // 2. Python 세션 ID 조회
-        Long pythonSessionId = chatRepository.findById(chatId)
-                .map(Chat::getPythonSessionId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 정보를 찾을 수 없습니다."));
-
-        // 3. Python FastAPI 서버에 세션 삭제 요청
-        pythonWebClient.delete()
+    public CompletableFuture<Void> deleteChatRoom(Long userId, Long chatId) {
+        // 1. 본인 소유의 채팅방인지 확인하고 Python 세션 ID 조회
+        Long pythonSessionId = findOwnedPythonSessionId(userId, chatId);
+
+        // 2. Python FastAPI 서버에 세션 삭제 요청
+        return pythonWebClient.delete()
                 .uri("/api/chat/sessions/{sessionId}", pythonSessionId)
+                .httpRequest(responseTimeout(Duration.ofSeconds(sessionTimeoutSeconds)))
                 .retrieve()
                 .toBodilessEntity() // 응답 본문이 없을 경우
-                .block(); // 동기적으로 실행
+                .onErrorMap(WebClientException.class, e -> pythonServerError("대화 삭제", e))
+                .toFuture()
+                // 3. Spring DB에서 채팅방 정보 삭제
+                .thenRunAsync(() -> chatRepository.deleteById(chatId), chatPersistenceExecutor);
+    }
+
+    /**
+     * 호출별 응답 대기 시간 지정(WebClientConfig의 기본값 대신 사용)
+     */
+    private static Consumer<ClientHttpRequest> responseTimeout(Duration timeout) {
+        return request -> {
+            HttpClientRequest reactorRequest = request.getNativeRequest();
+            reactorRequest.responseTimeout(timeout);
+        };
+    }
 
-        // 4. Spring DB에서 채팅방 정보 삭제
-        chatRepository.deleteById(chatId);
+    private AiAnalysisException pythonServerError(String action, WebClientException e) {
+        log.error("챗봇 서버 요청 실패 ({}): {}", action, e.getMessage());
+        return new AiAnalysisException("챗봇 서버 요청에 실패했습니다.");
     }
 }
@@ -0,0 +1,43 @@
+package com.project.farming.domain.diary.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일지 검색용 FULLTEXT 인덱스 생성
+ * - JPA @Index로는 FULLTEXT 인덱스를 정의할 수 없으므로 시작 시 없으면 생성
+ * - 한국어 검색을 위해 MySQL ngram 파서 사용(기본 토큰 크기 2)
+ */
+@Order(4)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DiaryFullTextIndexInitializer implements CommandLineRunner {
+
+    private static final String INDEX_NAME = "ft_diary_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            Integer count = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = 'diaries' AND index_name = ?
+                    """, Integer.class, INDEX_NAME);
+            if (count != null && count > 0) {
+                log.info("diaries 테이블에 FULLTEXT 인덱스가 이미 존재합니다.");
+                return;
+            }
+            jdbcTemplate.execute(
+                    "ALTER TABLE diaries ADD FULLTEXT INDEX " + INDEX_NAME + " (title, content) WITH PARSER ngram");
+            log.info("diaries 테이블에 FULLTEXT 인덱스를 생성했습니다.");
+        } catch (Exception e) {
+            log.warn("diaries FULLTEXT 인덱스 생성 실패, 일지 검색을 사용할 수 없습니다: {}", e.getMessage());
+        }
+    }
+}
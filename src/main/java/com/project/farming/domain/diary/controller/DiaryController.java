@@ -1,8 +1,13 @@
 package com.project.farming.domain.diary.controller;
 
 import com.project.farming.domain.diary.dto.DiaryRequest;
+import com.project.farming.domain.diary.dto.DiaryCalendarResponse;
+import com.project.farming.domain.diary.dto.DiaryCursorResponse;
 import com.project.farming.domain.diary.dto.DiaryResponse;
+import com.project.farming.domain.diary.dto.DiarySearchResponse;
 import com.project.farming.domain.diary.entity.Diary;
+import com.project.farming.domain.diary.service.DiaryCalendarService;
+import com.project.farming.domain.diary.service.DiaryExportService;
 import com.project.farming.domain.diary.service.DiaryService;
 import com.project.farming.global.jwtToken.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +17,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +34,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @Tag(name = "Diary API", description = "일지(Diary) 관련 API")
@@ -33,6 +47,8 @@ import java.util.List;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryCalendarService diaryCalendarService;
+    private final DiaryExportService diaryExportService;
 
     /**
      * 새로운 일지 생성
@@ -42,7 +58,7 @@ public class DiaryController {
             description = """
         새로운 일지를 생성합니다.
         - `request`: JSON 형식의 DiaryRequest
-        - `imageFile`: 첨부 이미지 (선택)
+        - `imageFile`: 첨부 이미지 (선택, /images/upload-url로 업로드했다면 대신 diaryRequest.imageFileId 전달)
         **주의:** Content-Type은 multipart/form-data로 설정하여 업로드하세요.
         request는 JSON 문자열로 전송해야 합니다.
         """,
@@ -68,6 +84,7 @@ public class DiaryController {
                 diaryRequest.getContent(),
                 diaryRequest.getDiaryDate(), // ✨ diaryDate 전달
                 imageFile,
+                diaryRequest.getImageFileId(),
                 diaryRequest.getWatered(),
                 diaryRequest.getPruned(),
                 diaryRequest.getFertilized(),
@@ -93,18 +110,76 @@ public class DiaryController {
     }
 
     /**
-     * 특정 사용자의 모든 일지 조회 (캘린더 기본 뷰 - 최신순)
+     * 특정 사용자의 일지 목록 조회 (캘린더 기본 뷰 - 최신순, 커서 페이지네이션)
      */
-    @Operation(summary = "특정 사용자의 모든 일지 조회 (최신순)", description = "현재 로그인된 사용자가 작성한 모든 일지 목록을 최신순으로 조회합니다.")
+    @Operation(summary = "특정 사용자의 일지 목록 조회 (최신순)", description = "현재 로그인된 사용자가 작성한 일지 목록을 최신순으로 size개씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.")
     @GetMapping("/my-diaries")
-    public ResponseEntity<List<DiaryResponse>> getAllMyDiaries(
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    public ResponseEntity<DiaryCursorResponse> getAllMyDiaries(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(defaultValue = "20") int size) {
         if (customUserDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        List<DiaryResponse> responses = diaryService.getAllDiariesByUser(customUserDetails.getUser());
-        return ResponseEntity.ok(responses);
+        DiaryCursorResponse response = diaryService.getDiariesByUser(customUserDetails.getUser(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 일지 전체 내보내기 (ZIP)
+     * - 비동기 요청(StreamingResponseBody)으로 처리하면 MVC 비동기 제한 시간에 걸려 ZIP이 중간에 끊기므로,
+     *   요청 스레드에서 응답 스트림에 직접 씀(일지/이미지 수와 상관없이 끝까지 전송)
+     */
+    @Operation(summary = "일지 전체 내보내기", description = "현재 로그인된 사용자의 모든 일지(diaries.csv)와 일지 이미지(images/)를 ZIP 파일로 내려받습니다.")
+    @GetMapping("/export")
+    public void exportMyDiaries(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        if (customUserDetails == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        Long userId = customUserDetails.getUser().getUserId();
+        String filename = "diaries-" + LocalDate.now() + ".zip";
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        diaryExportService.export(userId, response.getOutputStream());
+        response.flushBuffer();
+    }
+
+    /**
+     * 일지 검색 (제목/내용, 관련도순)
+     */
+    @Operation(summary = "일지 검색", description = "현재 로그인된 사용자가 작성한 일지의 제목과 내용에서 검색어(2글자 이상)를 검색해 관련도순으로 조회합니다. 내용은 검색어 주변 일부만 반환합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<Page<DiarySearchResponse>> searchMyDiaries(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "검색어 (2글자 이상)") @RequestParam String q,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        if (customUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        Page<DiarySearchResponse> response = diaryService.searchDiaries(customUserDetails.getUser(), q, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 월별 일지 캘린더 조회 (날짜별 일지 수와 작업 여부)
+     */
+    @Operation(summary = "월별 일지 캘린더 조회", description = "현재 로그인된 사용자의 특정 월 일지를 날짜별로 집계해서 일지 수와 물주기/가지치기/영양제 주기 기록 여부를 조회합니다. 캘린더 표시에 사용됩니다.")
+    @GetMapping("/calendar")
+    public ResponseEntity<DiaryCalendarResponse> getMyDiaryCalendar(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "조회할 월 (yyyy-MM 형식, 예: 2024-07)") @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        if (customUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        DiaryCalendarResponse response = diaryCalendarService.getMonthlyCalendar(customUserDetails.getUser().getUserId(), month);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -191,6 +266,7 @@ public class DiaryController {
                 request.getContent(),
                 request.getDiaryDate(), // ✨ diaryDate 전달
                 newImageFile,
+                request.getImageFileId(),
                 request.isDeleteExistingImage(),
                 request.getWatered(),
                 request.getPruned(),
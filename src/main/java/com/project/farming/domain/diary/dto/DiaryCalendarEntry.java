@@ -0,0 +1,16 @@
+package com.project.farming.domain.diary.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더용 일지 Projection
+ * - 내용(content), 이미지 없이 날짜/제목/작업 여부만 조회
+ */
+public interface DiaryCalendarEntry {
+    Long getDiaryId();
+    LocalDate getDiaryDate();
+    String getTitle();
+    boolean getWatered();
+    boolean getPruned();
+    boolean getFertilized();
+}
@@ -0,0 +1,39 @@
+package com.project.farming.domain.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "월별 일지 캘린더 응답 DTO")
+public class DiaryCalendarResponse {
+    @Schema(description = "조회한 월", example = "2024-07")
+    private String month;
+
+    @Schema(description = "일지가 있는 날짜별 요약(날짜순)")
+    private List<Day> days;
+
+    @Getter
+    @Builder
+    @Schema(description = "날짜별 일지 요약")
+    public static class Day {
+        @Schema(description = "일지 날짜", example = "2024-07-25")
+        private LocalDate date;
+
+        @Schema(description = "일지 수", example = "2")
+        private long diaryCount;
+
+        @Schema(description = "그날 물주기 기록 여부", example = "true")
+        private boolean watered;
+
+        @Schema(description = "그날 가지치기 기록 여부", example = "false")
+        private boolean pruned;
+
+        @Schema(description = "그날 영양제 주기 기록 여부", example = "true")
+        private boolean fertilized;
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.farming.domain.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "일지 목록 커서 페이지 응답 DTO")
+public class DiaryCursorResponse {
+    @Schema(description = "일지 목록(최신순)")
+    private List<DiaryResponse> diaries;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서 (다음 페이지가 없으면 null)", example = "MjAyNC0wNy0yNVQxMDowMDowMHwxMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
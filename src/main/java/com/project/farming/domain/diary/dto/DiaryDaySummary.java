@@ -0,0 +1,15 @@
+package com.project.farming.domain.diary.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 월별 일지 캘린더용 날짜별 집계 Projection
+ * - 작업 여부는 그날 일지 중 하나라도 해당 작업을 했으면 1
+ */
+public interface DiaryDaySummary {
+    LocalDate getDiaryDate();
+    Long getDiaryCount();
+    Integer getWatered();
+    Integer getPruned();
+    Integer getFertilized();
+}
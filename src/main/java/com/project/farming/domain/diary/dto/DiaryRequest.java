@@ -46,6 +46,9 @@ public class DiaryRequest {
     @Schema(description = "일지에 연결할 사용자 식물(UserPlant) ID 목록", example = "[1, 3, 5]")
     private List<Long> selectedUserPlantIds;
 
+    @Schema(description = "Presigned URL로 업로드한 이미지 ID (/images/upload-url, imageFile 대신 사용)", example = "10")
+    private Long imageFileId;
+
     @Schema(description = "기존 이미지 삭제 여부 (일지 수정 시 사용)", example = "false")
     private boolean deleteExistingImage;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.project.farming.domain.diary.dto;
 
 import com.project.farming.domain.diary.entity.Diary;
+import com.project.farming.global.image.entity.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -53,12 +54,23 @@ public class DiaryResponse {
     private List<Long> connectedUserPlantIds;
 
     public DiaryResponse(Diary diary) {
+        this(diary, null);
+    }
+
+    /**
+     * @param imageVariant 이미지 축소본 크기(목록 조회 시 사용, null이면 원본)
+     */
+    public DiaryResponse(Diary diary, ImageVariant imageVariant) {
         this.diaryId = diary.getDiaryId();
         this.userId = diary.getUser().getUserId();
         this.title = diary.getTitle();
         this.content = diary.getContent();
         this.diaryDate = diary.getDiaryDate(); // ✨ diaryDate 필드 매핑
-        this.imageUrl = (diary.getDiaryImageFile() != null) ? diary.getDiaryImageFile().getImageUrl() : null;
+        if (diary.getDiaryImageFile() != null) {
+            this.imageUrl = imageVariant != null
+                    ? diary.getDiaryImageFile().getImageUrl(imageVariant)
+                    : diary.getDiaryImageFile().getImageUrl();
+        }
         this.watered = diary.isWatered();
         this.pruned = diary.isPruned();
         this.fertilized = diary.isFertilized();
@@ -0,0 +1,15 @@
+package com.project.farming.domain.diary.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일지 검색 결과 Projection
+ * - 전체 내용 대신 검색어 주변 일부(snippet)와 관련도 점수만 조회
+ */
+public interface DiarySearchHit {
+    Long getDiaryId();
+    LocalDate getDiaryDate();
+    String getTitle();
+    String getSnippet();
+    Double getScore();
+}
@@ -0,0 +1,27 @@
+package com.project.farming.domain.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@Schema(description = "일지 검색 결과 응답 DTO")
+public class DiarySearchResponse {
+    @Schema(description = "일지 ID", example = "1")
+    private Long diaryId;
+
+    @Schema(description = "일지 기록 날짜", example = "2024-08-01")
+    private LocalDate diaryDate;
+
+    @Schema(description = "일지 제목", example = "우리 토마토 첫 열매 맺은 날!")
+    private String title;
+
+    @Schema(description = "검색어 주변 내용 일부", example = "...드디어 토마토에 작은 열매가 보이기 시작했어요...")
+    private String snippet;
+
+    @Schema(description = "관련도 점수(높을수록 관련도 높음)", example = "1.52")
+    private double score;
+}
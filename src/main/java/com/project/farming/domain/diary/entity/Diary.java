@@ -4,6 +4,7 @@ import com.project.farming.domain.user.entity.User;
 import com.project.farming.global.image.entity.ImageFile;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate; // LocalDate 임포트
 import java.time.LocalDateTime;
@@ -11,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "diaries", indexes = @Index(name = "idx_user_diary", columnList = "user_id"))
+@Table(name = "diaries", indexes = {
+        @Index(name = "idx_user_diary", columnList = "user_id"),
+        @Index(name = "idx_diary_user_created", columnList = "user_id, created_at, diary_id"), // 최신순 커서 페이지네이션
+        @Index(name = "idx_diary_user_date", columnList = "user_id, diary_date") // 날짜별 조회, 월별 캘린더 집계
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(toBuilder = true) // 기존 Builder 유지 + toBuilder 추가
@@ -32,7 +37,8 @@ public class Diary {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
+    // 이미지는 다른 엔티티와 공유될 수 있으므로(참조 수) 삭제는 ImageFileService.deleteImage에서만 처리
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "dairy_image_file_id")
     private ImageFile diaryImageFile;
 
@@ -55,6 +61,7 @@ public class Diary {
     private boolean fertilized;
 
     @OneToMany(mappedBy = "diary", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100) // 일지 목록 조회 시 연결된 식물을 일지 100개 단위로 한 번에 조회
     @Builder.Default
     private List<DiaryUserPlant> diaryUserPlants = new ArrayList<>();
 
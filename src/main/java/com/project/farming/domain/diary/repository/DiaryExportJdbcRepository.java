@@ -0,0 +1,57 @@
+package com.project.farming.domain.diary.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 일지 내보내기용 스트리밍 조회
+ * - MySQL 스트리밍 모드(fetchSize = Integer.MIN_VALUE)로 한 행씩 읽어서 전체 결과를 메모리에 올리지 않음
+ * - 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 필요한 정보는 한 쿼리로 조회
+ */
+@Repository
+public class DiaryExportJdbcRepository {
+
+    private static final String SELECT_DIARIES = """
+            SELECT d.diary_id, d.diary_date, d.title, d.content, d.watered, d.pruned, d.fertilized,
+                   d.created_at, d.updated_at, img.original_image_name, img.s3_key,
+                   (SELECT GROUP_CONCAT(dup.user_plant_id ORDER BY dup.user_plant_id)
+                    FROM diary_user_plant dup WHERE dup.diary_id = d.diary_id) AS user_plant_ids
+            FROM diaries d
+            LEFT JOIN image_files img ON img.image_file_id = d.dairy_image_file_id
+            WHERE d.user_id = ?
+            ORDER BY d.diary_date ASC, d.diary_id ASC
+            """;
+
+    private static final String SELECT_DIARY_IMAGES = """
+            SELECT d.diary_id, img.original_image_name, img.s3_key
+            FROM diaries d
+            JOIN image_files img ON img.image_file_id = d.dairy_image_file_id
+            WHERE d.user_id = ? AND img.s3_key IS NOT NULL
+            ORDER BY d.diary_id ASC
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public DiaryExportJdbcRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 사용자의 일지를 날짜순으로 한 행씩 전달
+     * - 연결된 사용자 식물 ID(user_plant_ids, 쉼표 구분)와 이미지 정보 포함
+     */
+    public void streamDiaries(Long userId, RowCallbackHandler rowHandler) {
+        streamingJdbcTemplate.query(SELECT_DIARIES, rowHandler, userId);
+    }
+
+    /**
+     * 사용자의 일지 이미지(diary_id, original_image_name, s3_key)를 한 행씩 전달
+     */
+    public void streamDiaryImages(Long userId, RowCallbackHandler rowHandler) {
+        streamingJdbcTemplate.query(SELECT_DIARY_IMAGES, rowHandler, userId);
+    }
+}
@@ -1,8 +1,14 @@
 package com.project.farming.domain.diary.repository;
 
+import com.project.farming.domain.diary.dto.DiaryCalendarEntry;
+import com.project.farming.domain.diary.dto.DiaryDaySummary;
+import com.project.farming.domain.diary.dto.DiarySearchHit;
 import com.project.farming.domain.diary.entity.Diary;
 import com.project.farming.domain.user.entity.User;
 import com.project.farming.domain.userplant.entity.UserPlant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,17 +18,79 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
-    // 특정 사용자의 모든 일지를 최신 생성일 기준으로 내림차순 정렬하여 조회
-    List<Diary> findByUserOrderByCreatedAtDesc(User user);
+    // 특정 사용자의 일지 첫 페이지를 최신 생성일 기준으로 내림차순 정렬하여 조회 (이미지 함께 조회)
+    @EntityGraph(attributePaths = "diaryImageFile")
+    @Query("SELECT d FROM Diary d WHERE d.user.userId = :userId ORDER BY d.createdAt DESC, d.diaryId DESC")
+    List<Diary> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서(마지막으로 조회한 일지의 생성일, ID) 이후의 일지를 최신 생성일 기준으로 내림차순 정렬하여 조회 (이미지 함께 조회)
+    @EntityGraph(attributePaths = "diaryImageFile")
+    @Query("""
+        SELECT d FROM Diary d
+        WHERE d.user.userId = :userId
+          AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.diaryId < :diaryId))
+        ORDER BY d.createdAt DESC, d.diaryId DESC
+        """)
+    List<Diary> findNextPageByUserId(
+            @Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("diaryId") Long diaryId, Pageable pageable);
 
     // 특정 사용자의 특정 기간 동안의 일지를 생성일 기준으로 오름차순 정렬하여 조회
+    @EntityGraph(attributePaths = "diaryImageFile")
     List<Diary> findByUserAndDiaryDateBetweenOrderByDiaryDateAsc(User user, LocalDate startDate, LocalDate endDate);
 
+    // 특정 사용자의 특정 기간 동안의 일지를 캘린더용 Projection으로 조회 (내용, 이미지 제외)
+    @Query("""
+        SELECT d.diaryId AS diaryId, d.diaryDate AS diaryDate, d.title AS title,
+               d.watered AS watered, d.pruned AS pruned, d.fertilized AS fertilized
+        FROM Diary d
+        WHERE d.user.userId = :userId AND d.diaryDate BETWEEN :startDate AND :endDate
+        ORDER BY d.diaryDate ASC, d.diaryId ASC
+        """)
+    List<DiaryCalendarEntry> findCalendarEntries(
+            @Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 특정 사용자의 특정 기간 동안의 일지를 날짜별로 집계 (일지 수, 작업 여부)
+    @Query("""
+        SELECT d.diaryDate AS diaryDate, COUNT(d) AS diaryCount,
+               MAX(CASE WHEN d.watered = true THEN 1 ELSE 0 END) AS watered,
+               MAX(CASE WHEN d.pruned = true THEN 1 ELSE 0 END) AS pruned,
+               MAX(CASE WHEN d.fertilized = true THEN 1 ELSE 0 END) AS fertilized
+        FROM Diary d
+        WHERE d.user.userId = :userId AND d.diaryDate BETWEEN :startDate AND :endDate
+        GROUP BY d.diaryDate
+        ORDER BY d.diaryDate ASC
+        """)
+    List<DiaryDaySummary> summarizeByDiaryDate(
+            @Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 특정 사용자의 일지를 제목/내용 FULLTEXT(ngram) 검색하여 관련도순으로 조회 (내용은 검색어 주변 일부만 조회)
+    @Query(value = """
+        SELECT d.diary_id AS diaryId, d.diary_date AS diaryDate, d.title AS title,
+               SUBSTRING(d.content, GREATEST(LOCATE(:term, d.content) - :snippetBefore, 1), :snippetLength) AS snippet,
+               MATCH(d.title, d.content) AGAINST(:query IN NATURAL LANGUAGE MODE) AS score
+        FROM diaries d
+        WHERE d.user_id = :userId
+          AND MATCH(d.title, d.content) AGAINST(:query IN NATURAL LANGUAGE MODE)
+        ORDER BY score DESC, d.diary_id DESC
+        """,
+            countQuery = """
+        SELECT COUNT(*) FROM diaries d
+        WHERE d.user_id = :userId
+          AND MATCH(d.title, d.content) AGAINST(:query IN NATURAL LANGUAGE MODE)
+        """,
+            nativeQuery = true)
+    Page<DiarySearchHit> searchByUserId(
+            @Param("userId") Long userId, @Param("query") String query, @Param("term") String term,
+            @Param("snippetBefore") int snippetBefore, @Param("snippetLength") int snippetLength, Pageable pageable);
+
     // 특정 사용자의 특정 UserPlant에 연결된 일지를 최신 생성일 기준으로 내림차순 정렬하여 조회
+    @EntityGraph(attributePaths = "diaryImageFile")
     @Query("SELECT d FROM Diary d JOIN d.diaryUserPlants dup WHERE d.user = :user AND dup.userPlant = :userPlant ORDER BY d.createdAt DESC")
     List<Diary> findByUserAndUserPlant(@Param("user") User user, @Param("userPlant") UserPlant userPlant);
 
     // 특정 사용자의 여러 UserPlant 중 하나라도 연결된 일지를 최신 생성일 기준으로 내림차순 정렬하여 조회
+    @EntityGraph(attributePaths = "diaryImageFile")
     @Query("SELECT DISTINCT d FROM Diary d JOIN d.diaryUserPlants dup WHERE d.user = :user AND dup.userPlant IN :userPlants ORDER BY d.createdAt DESC")
     List<Diary> findByUserAndUserPlantsIn(@Param("user") User user, @Param("userPlants") List<UserPlant> userPlants);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.project.farming.domain.diary.repository;
+
+import com.project.farming.global.jdbc.JdbcBatchWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 일지-사용자 식물 연결 대량 저장(JDBC 배치 INSERT)
+ */
+@RequiredArgsConstructor
+@Repository
+public class DiaryUserPlantJdbcRepository {
+
+    private static final String INSERT_DIARY_USER_PLANT = """
+            INSERT INTO diary_user_plant (diary_id, user_plant_id) VALUES (?, ?)
+            """;
+
+    private final JdbcBatchWriter jdbcBatchWriter;
+
+    /**
+     * 일지에 사용자 식물 연결
+     *
+     * @param diaryId 일지 ID
+     * @param userPlantIds 연결할 사용자 식물 ID 목록
+     * @return 저장된 연결 수
+     */
+    public int saveAll(Long diaryId, Collection<Long> userPlantIds) {
+        return jdbcBatchWriter.batchInsert(INSERT_DIARY_USER_PLANT, userPlantIds, (ps, userPlantId) -> {
+            ps.setLong(1, diaryId);
+            ps.setLong(2, userPlantId);
+        });
+    }
+}
@@ -3,9 +3,19 @@ package com.project.farming.domain.diary.repository;
 import com.project.farming.domain.diary.entity.Diary;
 import com.project.farming.domain.diary.entity.DiaryUserPlant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DiaryUserPlantRepository extends JpaRepository<DiaryUserPlant, Long> {
     List<DiaryUserPlant> findByDiary(Diary diary);
+
+    // 일지에서 빠진 식물 연결을 한 번에 삭제 (변경 내용을 먼저 반영하고, 삭제 후 영속성 컨텍스트 초기화)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DiaryUserPlant dup WHERE dup.diary.diaryId = :diaryId AND dup.userPlant.userPlantId IN :userPlantIds")
+    int deleteByDiaryIdAndUserPlantIdIn(
+            @Param("diaryId") Long diaryId, @Param("userPlantIds") Collection<Long> userPlantIds);
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.project.farming.domain.diary.service;
+
+import com.project.farming.domain.diary.dto.DiaryCalendarResponse;
+import com.project.farming.domain.diary.dto.DiaryDaySummary;
+import com.project.farming.domain.diary.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 월별 일지 캘린더 조회
+ * - 날짜별 일지 수와 작업 여부를 GROUP BY 집계 쿼리 한 번으로 조회(내용 등 엔티티는 조회하지 않음)
+ * - 사용자별/월별로 결과를 캐싱하고, 일지가 작성/수정/삭제되면 커밋 이후 해당 사용자의 캐시를 제거
+ * - 캐시 제거는 사용자별 캐시 객체(세대)를 통째로 버리는 방식이라, 제거 전에 시작된 조회가 늦게 저장한 결과는
+ *   버려진 객체에만 들어가고 새 세대에는 남지 않음
+ */
+@RequiredArgsConstructor
+@Service
+public class DiaryCalendarService {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final DiaryRepository diaryRepository;
+
+    // 사용자 ID -> 현재 세대의 (월 -> 캘린더)
+    private final Map<Long, Map<YearMonth, DiaryCalendarResponse>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 월별 일지 캘린더 조회
+     *
+     * @param userId 사용자 ID
+     * @param month 조회할 월
+     * @return 날짜별 일지 요약 Response DTO
+     */
+    @Transactional(readOnly = true)
+    public DiaryCalendarResponse getMonthlyCalendar(Long userId, YearMonth month) {
+        if (cache.size() >= MAX_CACHED_USERS) {
+            cache.clear();
+        }
+        // 조회 전에 현재 세대를 잡아 두고 결과도 그 세대에만 저장
+        Map<YearMonth, DiaryCalendarResponse> months = cache.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+        DiaryCalendarResponse cached = months.get(month);
+        if (cached != null) {
+            return cached;
+        }
+
+        DiaryCalendarResponse response = DiaryCalendarResponse.builder()
+                .month(month.toString())
+                .days(diaryRepository.summarizeByDiaryDate(userId, month.atDay(1), month.atEndOfMonth()).stream()
+                        .map(this::toDay)
+                        .toList())
+                .build();
+        months.put(month, response);
+        return response;
+    }
+
+    /**
+     * 사용자의 캘린더 캐시 제거
+     * - 일지가 작성/수정/삭제된 경우 호출(수정 시 날짜가 다른 월로 바뀔 수 있으므로 모든 월 제거)
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 제거
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(userId);
+                }
+            });
+        } else {
+            cache.remove(userId);
+        }
+    }
+
+    private DiaryCalendarResponse.Day toDay(DiaryDaySummary summary) {
+        return DiaryCalendarResponse.Day.builder()
+                .date(summary.getDiaryDate())
+                .diaryCount(summary.getDiaryCount())
+                .watered(summary.getWatered() > 0)
+                .pruned(summary.getPruned() > 0)
+                .fertilized(summary.getFertilized() > 0)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.project.farming.domain.diary.service;
+
+import com.project.farming.domain.diary.repository.DiaryExportJdbcRepository;
+import com.project.farming.global.image.storage.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 일지 전체 내보내기(ZIP)
+ * - diaries.csv: 모든 일지(날짜순), images/: 일지 이미지 원본
+ * - DB는 스트리밍 조회로 한 행씩, 이미지는 저장소에서 한 개씩 바로 ZIP에 써서 일지 수와 상관없이 메모리 사용량이 일정
+ * - 응답 스트림에 직접 쓰므로 클라이언트가 느리면 쓰기가 대기하면서 DB/저장소 읽기도 함께 늦춰짐
+ * - 저장소에 없는 이미지는 ZIP에 넣지 않고 missing_images.txt에 경로를 기록
+ * - 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR로 시작하는 사용자 입력 앞에 '를 붙임
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DiaryExportService {
+
+    private static final String[] CSV_HEADER = {
+            "diary_id", "diary_date", "title", "content", "watered", "pruned", "fertilized",
+            "created_at", "updated_at", "user_plant_ids", "image_file"};
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final DiaryExportJdbcRepository diaryExportJdbcRepository;
+    private final ObjectStorage objectStorage;
+
+    /**
+     * 사용자의 일지를 ZIP으로 내보내기
+     *
+     * @param userId 사용자 ID
+     * @param out ZIP을 쓸 출력 스트림(응답 스트림)
+     */
+    public void export(Long userId, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        int[] counts = new int[2]; // 일지 수, 이미지 수
+        try {
+            zip.putNextEntry(new ZipEntry("diaries.csv"));
+            Writer csv = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+            csv.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writeCsvRow(csv, CSV_HEADER);
+            diaryExportJdbcRepository.streamDiaries(userId, rs -> {
+                writeCsvRow(csv, toCsvRow(rs));
+                counts[0]++;
+            });
+            csv.flush();
+            zip.closeEntry();
+
+            List<String> missingImages = new ArrayList<>();
+            diaryExportJdbcRepository.streamDiaryImages(userId, rs -> {
+                String s3Key = rs.getString("s3_key");
+                String entryName = imageEntryName(rs.getLong("diary_id"), rs.getString("original_image_name"), s3Key);
+                // 빈 항목이 생기지 않도록 객체가 있는지 확인한 뒤 항목 추가
+                if (objectStorage.findMetadata(s3Key) == null) {
+                    log.warn("내보낼 이미지가 저장소에 없습니다: {}", s3Key);
+                    missingImages.add(entryName);
+                    return;
+                }
+                try {
+                    zip.putNextEntry(new ZipEntry(entryName));
+                    if (objectStorage.copyTo(s3Key, zip)) counts[1]++;
+                    else missingImages.add(entryName);
+                    zip.closeEntry();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (!missingImages.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("missing_images.txt"));
+                zip.write(String.join("\r\n", missingImages).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("일지 내보내기 완료 (userId={}, 일지 {}개, 이미지 {}개, {}ms)",
+                userId, counts[0], counts[1], System.currentTimeMillis() - start);
+    }
+
+    private String[] toCsvRow(ResultSet rs) throws SQLException {
+        Long diaryId = rs.getLong("diary_id");
+        String s3Key = rs.getString("s3_key");
+        return new String[]{
+                String.valueOf(diaryId),
+                rs.getString("diary_date"),
+                neutralizeFormula(rs.getString("title")),
+                neutralizeFormula(rs.getString("content")),
+                String.valueOf(rs.getBoolean("watered")),
+                String.valueOf(rs.getBoolean("pruned")),
+                String.valueOf(rs.getBoolean("fertilized")),
+                rs.getString("created_at"),
+                rs.getString("updated_at"),
+                rs.getString("user_plant_ids"),
+                s3Key != null ? imageEntryName(diaryId, rs.getString("original_image_name"), s3Key) : null};
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(escapeCsv(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스프레드시트에서 수식으로 해석되는 문자로 시작하는 사용자 입력 앞에 ' 추가
+     */
+    private String neutralizeFormula(String value) {
+        if (value == null || value.isEmpty() || FORMULA_PREFIXES.indexOf(value.charAt(0)) < 0) return value;
+        return "'" + value;
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) return "";
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * ZIP 안의 이미지 경로(images/{일지ID}_{원본 파일명})
+     */
+    private String imageEntryName(Long diaryId, String originalImageName, String s3Key) {
+        String name = originalImageName != null ? originalImageName : s3Key.substring(s3Key.lastIndexOf('/') + 1);
+        return "images/" + diaryId + "_" + name.replaceAll("[\\\\/:*?\"<>|]", "_");
+    }
+}
@@ -1,9 +1,12 @@
 package com.project.farming.domain.diary.service;
 
+import com.project.farming.domain.diary.dto.DiaryCursorResponse;
 import com.project.farming.domain.diary.dto.DiaryResponse;
+import com.project.farming.domain.diary.dto.DiarySearchResponse;
 import com.project.farming.domain.diary.entity.Diary;
 import com.project.farming.domain.diary.entity.DiaryUserPlant;
 import com.project.farming.domain.diary.repository.DiaryRepository;
+import com.project.farming.domain.diary.repository.DiaryUserPlantJdbcRepository;
 import com.project.farming.domain.diary.repository.DiaryUserPlantRepository;
 import com.project.farming.domain.userplant.entity.UserPlant;
 import com.project.farming.domain.userplant.repository.UserPlantRepository;
@@ -11,16 +14,24 @@ import com.project.farming.domain.userplant.service.UserPlantDailyStatusRedisSer
 import com.project.farming.domain.user.entity.User;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.ImageFile;
+import com.project.farming.global.image.entity.ImageVariant;
 import com.project.farming.global.image.service.ImageFileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,18 +39,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DiaryService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_SEARCH_LENGTH = 2; // MySQL ngram 토큰 크기
+    private static final int SNIPPET_BEFORE = 30; // 검색어 앞에 포함할 글자 수
+    private static final int SNIPPET_LENGTH = 120;
+
     private final DiaryRepository diaryRepository;
     private final DiaryUserPlantRepository diaryUserPlantRepository;
+    private final DiaryUserPlantJdbcRepository diaryUserPlantJdbcRepository;
     private final UserPlantRepository userPlantRepository;
     private final UserPlantDailyStatusRedisService userPlantDailyStatusRedisService;
     private final ImageFileService imageFileService;
+    private final DiaryCalendarService diaryCalendarService;
 
     /**
      * 일지 생성
      */
     @Transactional
     public Diary createDiary(User user, String title, String content, LocalDate diaryDate,
-                             MultipartFile imageFile, boolean watered, boolean pruned, boolean fertilized,
+                             MultipartFile imageFile, Long uploadedImageFileId,
+                             boolean watered, boolean pruned, boolean fertilized,
                              List<Long> selectedUserPlantIds) {
         // 새로운 Diary 엔티티 생성 및 기본 정보 설정
         Diary diary = Diary.builder()
@@ -52,10 +71,15 @@ public class DiaryService {
                 .fertilized(fertilized)
                 .build();
         diaryRepository.save(diary);
+        diaryCalendarService.evict(user.getUserId());
 
         if (imageFile != null && !imageFile.isEmpty()) {
             ImageFile uploadedImage = imageFileService.uploadImage(imageFile, ImageDomainType.DIARY, diary.getDiaryId());
             diary.setDiaryImage(uploadedImage); // Diary 엔티티에 ImageFile 연결
+        } else if (uploadedImageFileId != null) {
+            // Presigned URL로 S3에 직접 업로드된 이미지 연결
+            diary.setDiaryImage(imageFileService.attachUploadedImage(
+                    uploadedImageFileId, user.getUserId(), ImageDomainType.DIARY, diary.getDiaryId()));
         }
 
         if (selectedUserPlantIds != null && !selectedUserPlantIds.isEmpty()) {
@@ -69,19 +93,11 @@ public class DiaryService {
                 }
                 // ✨ 이 부분을 추가합니다.
                 userPlant.updateUserPlantStatus(watered, pruned, fertilized);
-                DiaryUserPlant diaryUserPlant = DiaryUserPlant.builder()
-                        .diary(diary)
-                        .userPlant(userPlant)
-                        .build();
-                diary.addDiaryUserPlant(diaryUserPlant);
             }
-            diaryUserPlantRepository.saveAll(diary.getDiaryUserPlants());
+            saveDiaryUserPlants(diary, userPlants);
         }
 
-        for (DiaryUserPlant diaryUserPlant : diary.getDiaryUserPlants()) {
-            Long userPlantId = diaryUserPlant.getUserPlant().getUserPlantId();
-            userPlantDailyStatusRedisService.updateStatusOnDiaryWrite(userPlantId, watered, pruned, fertilized);
-        }
+        updateDailyStatus(diary, watered, pruned, fertilized);
 
         return diary;
     }
@@ -91,7 +107,7 @@ public class DiaryService {
      */
     @Transactional
     public Diary updateDiary(Long diaryId, User user, String title, String content, LocalDate diaryDate,
-                             MultipartFile newImageFile, boolean deleteExistingImage,
+                             MultipartFile newImageFile, Long uploadedImageFileId, boolean deleteExistingImage,
                              boolean watered, boolean pruned, boolean fertilized,
                              List<Long> newUserPlantIds) {
 
@@ -103,50 +119,103 @@ public class DiaryService {
         }
 
         if (newImageFile != null && !newImageFile.isEmpty()) {
-            if (diary.getDiaryImageFile() != null) {
-                imageFileService.deleteImage(diary.getDiaryImageFile().getImageFileId());
-            }
+            // 새 이미지를 연결한 뒤 기존 이미지 삭제(같은 이미지면 참조만 해제)
+            ImageFile oldImage = diary.getDiaryImageFile();
             ImageFile uploadedImage = imageFileService.uploadImage(newImageFile, ImageDomainType.DIARY, diary.getDiaryId());
             diary.setDiaryImage(uploadedImage);
+            if (oldImage != null) {
+                imageFileService.deleteImage(oldImage.getImageFileId());
+            }
+        } else if (uploadedImageFileId != null) {
+            ImageFile oldImage = diary.getDiaryImageFile();
+            diary.setDiaryImage(imageFileService.attachUploadedImage(
+                    uploadedImageFileId, user.getUserId(), ImageDomainType.DIARY, diary.getDiaryId()));
+            if (oldImage != null) {
+                imageFileService.deleteImage(oldImage.getImageFileId());
+            }
         } else if (deleteExistingImage && diary.getDiaryImageFile() != null) {
-            imageFileService.deleteImage(diary.getDiaryImageFile().getImageFileId());
+            ImageFile oldImage = diary.getDiaryImageFile();
             diary.setDiaryImage(null);
+            imageFileService.deleteImage(oldImage.getImageFileId());
         }
 
         diary.updateDiary(title, content, diaryDate, diary.getDiaryImageFile(), watered, pruned, fertilized); // ✨ diaryDate 전달
+        diaryCalendarService.evict(user.getUserId());
 
-        diary.clearDiaryUserPlants();
-        diaryUserPlantRepository.deleteAll(diaryUserPlantRepository.findByDiary(diary));
+        diary = updateDiaryUserPlants(diary, user, newUserPlantIds);
+
+        updateDailyStatus(diary, watered, pruned, fertilized);
+
+        return diary;
+    }
+
+    /**
+     * 일지에 연결된 식물들의 오늘 작업 상태를 Redis에 한 번에 기록
+     */
+    private void updateDailyStatus(Diary diary, boolean watered, boolean pruned, boolean fertilized) {
+        List<Long> userPlantIds = diary.getDiaryUserPlants().stream()
+                .map(diaryUserPlant -> diaryUserPlant.getUserPlant().getUserPlantId())
+                .toList();
+        userPlantDailyStatusRedisService.updateStatusOnDiaryWrite(userPlantIds, watered, pruned, fertilized);
+    }
 
-        if (newUserPlantIds != null && !newUserPlantIds.isEmpty()) {
-            List<UserPlant> newUserPlants = userPlantRepository.findAllById(newUserPlantIds);
+    /**
+     * 일지 수정 시 연결된 식물 변경
+     * - 기존 연결과 새로 선택한 식물을 비교해서 바뀐 부분만 반영(변경이 없으면 쿼리 없음)
+     * - 빠진 연결은 DELETE 한 번으로 삭제하고, 추가된 연결만 JDBC 배치 INSERT로 저장
+     * - 삭제한 경우 영속성 컨텍스트가 초기화되므로 일지를 다시 조회해서 반환
+     *
+     * @return 연결이 반영된 일지
+     */
+    private Diary updateDiaryUserPlants(Diary diary, User user, List<Long> newUserPlantIds) {
+        Set<Long> requestedIds = newUserPlantIds == null ? Set.of() : new LinkedHashSet<>(newUserPlantIds);
+        Set<Long> currentIds = diary.getDiaryUserPlants().stream()
+                .map(diaryUserPlant -> diaryUserPlant.getUserPlant().getUserPlantId())
+                .collect(Collectors.toSet());
+        List<Long> staleIds = currentIds.stream().filter(id -> !requestedIds.contains(id)).toList();
+        List<Long> addedIds = requestedIds.stream().filter(id -> !currentIds.contains(id)).toList();
+        if (staleIds.isEmpty() && addedIds.isEmpty()) {
+            return diary;
+        }
 
-            if (newUserPlants.size() != newUserPlantIds.size()) {
+        List<UserPlant> addedUserPlants = List.of();
+        if (!addedIds.isEmpty()) {
+            addedUserPlants = userPlantRepository.findAllById(addedIds);
+            if (addedUserPlants.size() != addedIds.size()) {
                 throw new IllegalArgumentException("일부 선택된 식물을 찾을 수 없습니다 (수정).");
             }
-            for (UserPlant userPlant : newUserPlants) {
+            for (UserPlant userPlant : addedUserPlants) {
                 if (!userPlant.getUser().getUserId().equals(user.getUserId())) {
                     throw new IllegalArgumentException("본인의 식물이 아닌 식물이 선택되었습니다 (수정).");
                 }
             }
-            for (UserPlant userPlant : newUserPlants) {
-                DiaryUserPlant diaryUserPlant = DiaryUserPlant.builder()
-                        .diary(diary)
-                        .userPlant(userPlant)
-                        .build();
-                diary.addDiaryUserPlant(diaryUserPlant);
-            }
-            diaryUserPlantRepository.saveAll(diary.getDiaryUserPlants());
         }
 
-        for (DiaryUserPlant diaryUserPlant : diary.getDiaryUserPlants()) {
-            Long userPlantId = diaryUserPlant.getUserPlant().getUserPlantId();
-            userPlantDailyStatusRedisService.updateStatusOnDiaryWrite(userPlantId, watered, pruned, fertilized);
+        Long diaryId = diary.getDiaryId();
+        if (!staleIds.isEmpty()) {
+            diaryUserPlantRepository.deleteByDiaryIdAndUserPlantIdIn(diaryId, staleIds);
+            diary = diaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new NoSuchElementException("해당 ID의 일지를 찾을 수 없습니다: " + diaryId));
+        }
+        if (!addedUserPlants.isEmpty()) {
+            saveDiaryUserPlants(diary, addedUserPlants);
         }
-
         return diary;
     }
 
+    /**
+     * 일지-사용자 식물 연결 저장
+     * - 식물 수만큼의 INSERT를 JDBC 배치 INSERT로 저장한 뒤, 저장된 연결을 한 번에 조회해서 일지에 추가
+     */
+    private void saveDiaryUserPlants(Diary diary, List<UserPlant> userPlants) {
+        diaryUserPlantJdbcRepository.saveAll(diary.getDiaryId(),
+                userPlants.stream().map(UserPlant::getUserPlantId).toList());
+        List<DiaryUserPlant> linked = diary.getDiaryUserPlants();
+        diaryUserPlantRepository.findByDiary(diary).stream()
+                .filter(diaryUserPlant -> !linked.contains(diaryUserPlant))
+                .forEach(diary::addDiaryUserPlant);
+    }
+
     /**
      * 일지 삭제
      */
@@ -157,10 +226,13 @@ public class DiaryService {
         if (!diary.getUser().getUserId().equals(user.getUserId())) {
             throw new IllegalArgumentException("해당 일지에 대한 삭제 권한이 없습니다.");
         }
-        if (diary.getDiaryImageFile() != null) {
-            imageFileService.deleteImage(diary.getDiaryImageFile().getImageFileId());
-        }
+        // 일지를 먼저 삭제한 뒤 이미지 참조 해제(다른 곳에서 사용 중이면 이미지는 유지)
+        ImageFile diaryImageFile = diary.getDiaryImageFile();
         diaryRepository.delete(diary);
+        if (diaryImageFile != null) {
+            imageFileService.deleteImage(diaryImageFile.getImageFileId());
+        }
+        diaryCalendarService.evict(user.getUserId());
     }
 
     /**
@@ -176,11 +248,56 @@ public class DiaryService {
     }
 
     /**
-     * 특정 사용자의 모든 일지 조회 (캘린더 기본 뷰 - 최신순)
+     * 특정 사용자의 일지 목록 조회 (캘린더 기본 뷰 - 최신순, 커서 페이지네이션)
+     * - (user_id, created_at, diary_id) 인덱스를 따라 커서 이후의 일지를 size개만 조회
+     * - 이미지는 함께 조회하고, 연결된 식물은 페이지 단위로 한 번에 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    public DiaryCursorResponse getDiariesByUser(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.ofSize(pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        List<Diary> diaries;
+        if (cursor == null || cursor.isBlank()) {
+            diaries = diaryRepository.findFirstPageByUserId(user.getUserId(), limit);
+        } else {
+            DiaryCursor decoded = DiaryCursor.decode(cursor);
+            diaries = diaryRepository.findNextPageByUserId(
+                    user.getUserId(), decoded.createdAt(), decoded.diaryId(), limit);
+        }
+
+        boolean hasNext = diaries.size() > pageSize;
+        List<Diary> page = hasNext ? diaries.subList(0, pageSize) : diaries;
+        Diary last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return DiaryCursorResponse.builder()
+                .diaries(page.stream().map(this::toListResponse).collect(Collectors.toList()))
+                .nextCursor(hasNext ? new DiaryCursor(last.getCreatedAt(), last.getDiaryId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 특정 사용자의 일지 검색 (제목/내용, 관련도순)
+     * - FULLTEXT(ngram) 인덱스로 검색하고, 내용은 첫 번째 검색어 주변 일부만 조회
+     *
+     * @param query 검색어(2글자 이상, 공백으로 여러 단어 입력 가능)
      */
-    public List<DiaryResponse> getAllDiariesByUser(User user) {
-        List<Diary> diaries = diaryRepository.findByUserOrderByCreatedAtDesc(user);
-        return diaries.stream().map(DiaryResponse::new).collect(Collectors.toList());
+    public Page<DiarySearchResponse> searchDiaries(User user, String query, Pageable pageable) {
+        String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ");
+        if (normalized.length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MIN_SEARCH_LENGTH + "글자 이상 입력해주세요.");
+        }
+        String term = normalized.split(" ")[0];
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
+        return diaryRepository.searchByUserId(user.getUserId(), normalized, term, SNIPPET_BEFORE, SNIPPET_LENGTH, page)
+                .map(hit -> DiarySearchResponse.builder()
+                        .diaryId(hit.getDiaryId())
+                        .diaryDate(hit.getDiaryDate())
+                        .title(hit.getTitle())
+                        .snippet(hit.getSnippet())
+                        .score(hit.getScore() != null ? hit.getScore() : 0)
+                        .build());
     }
 
     /**
@@ -193,7 +310,7 @@ public class DiaryService {
         // 현재 코드에서는 `findByUserAndCreatedAtBetweenOrderByCreatedAtAsc`를 사용하고 있으므로,
         // 이 부분을 repository에 맞는 메서드로 변경해야 합니다.
         List<Diary> diaries = diaryRepository.findByUserAndDiaryDateBetweenOrderByDiaryDateAsc(user, startDate, endDate);
-        return diaries.stream().map(DiaryResponse::new).collect(Collectors.toList());
+        return diaries.stream().map(this::toListResponse).collect(Collectors.toList());
     }
 
     /**
@@ -203,7 +320,7 @@ public class DiaryService {
         UserPlant userPlant = userPlantRepository.findByUserAndUserPlantId(user, userPlantId)
                 .orElseThrow(() -> new NoSuchElementException("사용자에 대한 해당 식물을 찾을 수 없습니다: " + userPlantId));
         List<Diary> diaries = diaryRepository.findByUserAndUserPlant(user, userPlant);
-        return diaries.stream().map(DiaryResponse::new).collect(Collectors.toList());
+        return diaries.stream().map(this::toListResponse).collect(Collectors.toList());
     }
 
     /**
@@ -220,6 +337,35 @@ public class DiaryService {
             }
         }
         List<Diary> diaries = diaryRepository.findByUserAndUserPlantsIn(user, userPlants);
-        return diaries.stream().map(DiaryResponse::new).collect(Collectors.toList());
+        return diaries.stream().map(this::toListResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * 일지 목록용 Response DTO 변환(이미지는 피드 크기 축소본)
+     */
+    private DiaryResponse toListResponse(Diary diary) {
+        return new DiaryResponse(diary, ImageVariant.MEDIUM);
+    }
+
+    /**
+     * 일지 목록 커서 (마지막으로 조회한 일지의 생성일, ID)
+     */
+    private record DiaryCursor(LocalDateTime createdAt, Long diaryId) {
+
+        String encode() {
+            String raw = createdAt + "|" + diaryId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static DiaryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new DiaryCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
     }
 }
@@ -1,8 +1,10 @@
 package com.project.farming.domain.farm.controller;
 
 import com.project.farming.domain.farm.dto.FarmAdminRequest;
+import com.project.farming.domain.farm.dto.FarmImportResult;
 import com.project.farming.domain.farm.dto.FarmResponse;
 import com.project.farming.domain.farm.service.FarmAdminService;
+import com.project.farming.domain.farm.service.FarmImportService;
 import com.project.farming.domain.farm.service.FarmService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,6 +30,7 @@ public class FarmAdminController {
 
     private final FarmAdminService farmAdminService;
     private final FarmService farmService;
+    private final FarmImportService farmImportService;
 
     @GetMapping("/create")
     @Operation(summary = "새로운 텃밭 정보 등록 페이지 (관리자 전용)",
@@ -149,6 +152,29 @@ public class FarmAdminController {
         }
     }
 
+    @PostMapping("/import")
+    @Operation(summary = "텃밭 공공데이터 가져오기 (관리자 전용)",
+            description = """
+                    텃밭 공공데이터 엑셀 파일(xlsx, xls)을 읽어서 고유번호 기준으로 기존 텃밭 정보와 비교합니다.
+                    새로운 텃밭은 등록, 변경된 텃밭은 수정하고, 파일에 없는 텃밭은 미운영으로 처리합니다.
+                    파일을 첨부하지 않으면 프로젝트에 포함된 공공데이터 파일을 다시 가져옵니다.
+                    여러 파일에 같은 고유번호가 있으면 먼저 첨부한 파일의 데이터를 사용합니다.
+                    enctype은 multipart/form-data입니다. **관리자만 접근 가능합니다.**
+                    """)
+    public String importFarms(
+            @Parameter(description = "텃밭 공공데이터 엑셀 파일 목록")
+            @RequestParam(value = "files", required = false) List<MultipartFile> files) {
+        try {
+            boolean hasFiles = files != null && files.stream().anyMatch(file -> !file.isEmpty());
+            FarmImportResult result = hasFiles
+                    ? farmImportService.importUploadedFarmData(files)
+                    : farmImportService.importBundledFarmData();
+            return "redirect:/admin/farms?imported=" + (result.getInserted() + result.getUpdated() + result.getDeactivated());
+        } catch (Exception e) {
+            return "redirect:/admin/farms?importError=true";
+        }
+    }
+
     @GetMapping("/map")
     @Operation(summary = "주변 텃밭 정보 조회 테스트 페이지 (관리자 전용)",
             description = """
@@ -1,6 +1,9 @@
 package com.project.farming.domain.farm.controller;
 
+import com.project.farming.domain.farm.dto.FarmClusterResponse;
+import com.project.farming.domain.farm.dto.FarmRegionResponse;
 import com.project.farming.domain.farm.dto.FarmResponse;
+import com.project.farming.domain.farm.service.FarmClusterService;
 import com.project.farming.domain.farm.service.FarmService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,19 +23,36 @@ import java.util.List;
 public class FarmController {
 
     private final FarmService farmService;
+    private final FarmClusterService farmClusterService;
 
     @GetMapping
     @Operation(summary = "전체 텃밭 목록 조회",
             description = """
                     DB에 등록된 모든 텃밭을 고유번호순으로 조회합니다.
+                    지역(region)을 지정하면 해당 지역의 텃밭만 조회합니다. 지역 값은 지역 목록 조회 API의 region 값을 사용합니다.
                     일부 정보만 반환합니다.
                     (farmId, gardenUniqueId(고유번호), operator(운영주체), farmName(텃밭 이름),
                      lotNumberAddress(주소), updatedAt(최종 수정일), farmImageUrl(이미지 URL))
                     """)
-    public ResponseEntity<List<FarmResponse>> getAllFarms() {
+    public ResponseEntity<List<FarmResponse>> getAllFarms(
+            @Parameter(description = "지역(시/도 + 시/군/구, 예: 경기도 고양시)")
+            @RequestParam(required = false) String region) {
+        if (region != null && !region.isBlank()) {
+            return ResponseEntity.ok(farmService.findFarmsByRegion(region.trim()));
+        }
         return ResponseEntity.ok(farmService.findAllFarms());
     }
 
+    @GetMapping("/regions")
+    @Operation(summary = "지역 목록 조회",
+            description = """
+                    텃밭이 있는 지역(시/도 + 시/군/구) 목록을 지역명순으로 조회합니다.
+                    각 지역의 텃밭 수(farmCount)를 함께 반환합니다.
+                    """)
+    public ResponseEntity<List<FarmRegionResponse>> getRegions() {
+        return ResponseEntity.ok(farmService.findAllRegions());
+    }
+
     @GetMapping("/search")
     @Operation(summary = "텃밭 목록 검색",
             description = """
@@ -65,4 +85,17 @@ public class FarmController {
             @Parameter(description = "조회 반경(km 단위, 기본값: 20km)") @RequestParam(defaultValue = "20") Double radius) {
         return ResponseEntity.ok(farmService.findFarmsByCurrentLocation(latitude, longitude, radius));
     }
+
+    @GetMapping("/clusters")
+    @Operation(summary = "지도 영역 내 텃밭 클러스터 조회",
+            description = """
+                    지도에 보이는 영역(bbox)과 줌 레벨을 기준으로 텃밭을 그리드 단위로 묶어서 조회합니다.
+                    각 클러스터의 중심 좌표(latitude, longitude), 텃밭 수(count), 일부 텃밭 ID(sampleFarmIds)를 반환합니다.
+                    텃밭 상세 정보는 특정 텃밭 정보 조회 API로 조회합니다.
+                    """)
+    public ResponseEntity<List<FarmClusterResponse>> getFarmClusters(
+            @Parameter(description = "지도 영역(minLongitude,minLatitude,maxLongitude,maxLatitude)") @RequestParam String bbox,
+            @Parameter(description = "줌 레벨(0~21, 값이 클수록 확대)") @RequestParam int zoom) {
+        return ResponseEntity.ok(farmClusterService.findClusters(bbox, zoom));
+    }
 }
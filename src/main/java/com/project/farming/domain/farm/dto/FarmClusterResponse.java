@@ -0,0 +1,15 @@
+package com.project.farming.domain.farm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FarmClusterResponse {
+    private Double latitude; // 클러스터 중심 위도
+    private Double longitude; // 클러스터 중심 경도
+    private int count; // 클러스터에 포함된 텃밭 수
+    private List<Long> sampleFarmIds; // 포함된 텃밭 ID 일부
+}
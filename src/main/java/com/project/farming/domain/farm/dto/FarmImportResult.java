@@ -0,0 +1,14 @@
+package com.project.farming.domain.farm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FarmImportResult {
+    private int inserted; // 새로 등록된 텃밭 수
+    private int updated; // 정보가 변경된 텃밭 수
+    private int deactivated; // 파일에 없어 미운영 처리된 텃밭 수
+    private int unchanged; // 변경 사항이 없는 텃밭 수
+    private int skipped; // 고유번호가 없거나 중복되어 건너뛴 행 수
+}
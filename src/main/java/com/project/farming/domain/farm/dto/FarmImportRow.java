@@ -0,0 +1,47 @@
+package com.project.farming.domain.farm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 텃밭 공공데이터 가져오기에서 사용하는 텃밭 한 행의 정보
+ * - 엑셀 파일의 행과 DB에 저장된 텃밭 정보를 같은 형태로 비교하기 위해 사용
+ */
+@Getter
+@Builder
+public class FarmImportRow {
+    private Long farmId; // DB에 저장된 텃밭인 경우에만 존재
+    private int gardenUniqueId; // 텃밭 고유번호
+    private String operator; // 운영주체
+    private String farmName;
+    private String roadNameAddress; // 도로명 주소
+    private String lotNumberAddress; // 지번 주소
+    private String facilities; // 부대시설
+    private String contact; // 신청방법
+    private Double latitude; // 위도
+    private Double longitude; // 경도
+    private boolean available; // 운영 여부
+    private LocalDate createdAt;
+    private LocalDate updatedAt;
+
+    /**
+     * 텃밭 정보(운영 여부 포함)가 같은지 비교
+     *
+     * @param other 비교할 텃밭 정보
+     * @return 모든 정보가 같으면 true
+     */
+    public boolean hasSameContent(FarmImportRow other) {
+        return available == other.available
+                && Objects.equals(operator, other.operator)
+                && Objects.equals(farmName, other.farmName)
+                && Objects.equals(roadNameAddress, other.roadNameAddress)
+                && Objects.equals(lotNumberAddress, other.lotNumberAddress)
+                && Objects.equals(facilities, other.facilities)
+                && Objects.equals(contact, other.contact)
+                && Objects.equals(latitude, other.latitude)
+                && Objects.equals(longitude, other.longitude);
+    }
+}
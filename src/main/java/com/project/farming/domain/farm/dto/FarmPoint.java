@@ -0,0 +1,11 @@
+package com.project.farming.domain.farm.dto;
+
+/**
+ * 지도 클러스터링용 텃밭 좌표 Projection
+ * - 엔티티 전체 대신 ID와 위도/경도만 조회
+ */
+public interface FarmPoint {
+    Long getFarmId();
+    Double getLatitude();
+    Double getLongitude();
+}
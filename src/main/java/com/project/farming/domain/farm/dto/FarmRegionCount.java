@@ -0,0 +1,9 @@
+package com.project.farming.domain.farm.dto;
+
+/**
+ * 지역별 텃밭 수 Projection
+ */
+public interface FarmRegionCount {
+    String getRegion();
+    Long getFarmCount();
+}
@@ -0,0 +1,11 @@
+package com.project.farming.domain.farm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FarmRegionResponse {
+    private String region; // 지역(시/도 + 시/군/구)
+    private long farmCount; // 해당 지역의 텃밭 수
+}
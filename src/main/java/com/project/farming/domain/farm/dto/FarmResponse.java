@@ -16,6 +16,7 @@ public class FarmResponse {
     private String farmName;
     private String roadNameAddress; // 도로명 주소
     private String lotNumberAddress; // 지번 주소
+    private String region; // 지역(시/도 + 시/군/구)
     private String facilities; // 부대시설
     private String contact; // 신청방법
     private Double latitude; // 위도
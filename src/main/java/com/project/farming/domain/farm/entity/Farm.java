@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "farm_info")
+@Table(name = "farm_info", indexes = {
+        @Index(name = "idx_farm_region", columnList = "region, garden_unique_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -36,6 +38,9 @@ public class Farm {
     @Column(nullable = false)
     private boolean available; // 운영 여부
 
+    @Column(length = 50)
+    private String region; // 지역(시/도 + 시/군/구), 주소 저장 시 자동 설정
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "farm_image_file_id", nullable = false)
     private ImageFile farmImageFile; // 텃밭 사진
@@ -47,11 +52,17 @@ public class Farm {
     protected void onCreate() {
         if (this.createdAt == null) this.createdAt = LocalDate.now();
         if (this.updatedAt == null) this.updatedAt = LocalDate.now();
+        updateRegion();
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDate.now();
+        updateRegion();
+    }
+
+    public void updateRegion() {
+        this.region = FarmRegion.from(this.lotNumberAddress, this.roadNameAddress);
     }
 
     public void updateFarmInfo(
@@ -0,0 +1,70 @@
+package com.project.farming.domain.farm.entity;
+
+import java.util.Map;
+
+/**
+ * 텃밭 주소에서 지역(시/도 + 시/군/구) 추출
+ * - 예) "경기도 고양시 덕양구 원당동 209-2" -> "경기도 고양시"
+ * - 예) "서울 강동구 ..." -> "서울특별시 강동구"
+ * - 시/군/구가 없는 경우(세종특별자치시 등) 시/도만 사용
+ * - 추출할 수 없는 주소(예: "N/A")는 UNKNOWN으로 저장해서, 지역이 없는(null) 기존 데이터와 구분
+ */
+public final class FarmRegion {
+
+    public static final String UNKNOWN = "미분류"; // 지역 목록/응답에는 노출하지 않음
+
+    private static final Map<String, String> SIDO_ALIASES = Map.ofEntries(
+            Map.entry("서울", "서울특별시"), Map.entry("서울시", "서울특별시"),
+            Map.entry("부산", "부산광역시"), Map.entry("부산시", "부산광역시"),
+            Map.entry("대구", "대구광역시"), Map.entry("대구시", "대구광역시"),
+            Map.entry("인천", "인천광역시"), Map.entry("인천시", "인천광역시"),
+            Map.entry("광주", "광주광역시"), Map.entry("광주시", "광주광역시"),
+            Map.entry("대전", "대전광역시"), Map.entry("대전시", "대전광역시"),
+            Map.entry("울산", "울산광역시"), Map.entry("울산시", "울산광역시"),
+            Map.entry("세종", "세종특별자치시"), Map.entry("세종시", "세종특별자치시"),
+            Map.entry("경기", "경기도"), Map.entry("강원", "강원특별자치도"), Map.entry("강원도", "강원특별자치도"),
+            Map.entry("충북", "충청북도"), Map.entry("충남", "충청남도"),
+            Map.entry("전북", "전북특별자치도"), Map.entry("전라북도", "전북특별자치도"), Map.entry("전남", "전라남도"),
+            Map.entry("경북", "경상북도"), Map.entry("경남", "경상남도"),
+            Map.entry("제주", "제주특별자치도"), Map.entry("제주도", "제주특별자치도"));
+
+    private FarmRegion() {
+    }
+
+    /**
+     * 지번 주소를 우선 사용하고, 지역을 추출할 수 없으면 도로명 주소 사용
+     *
+     * @param lotNumberAddress 지번 주소
+     * @param roadNameAddress 도로명 주소
+     * @return 지역(시/도 + 시/군/구), 추출할 수 없으면 UNKNOWN
+     */
+    public static String from(String lotNumberAddress, String roadNameAddress) {
+        String region = parse(lotNumberAddress);
+        if (region == null) region = parse(roadNameAddress);
+        return region != null ? region : UNKNOWN;
+    }
+
+    private static String parse(String address) {
+        if (address == null || address.isBlank()) return null;
+        String[] tokens = address.trim().split("\\s+");
+        String sido = normalizeSido(tokens[0]);
+        if (sido == null) return null;
+        if (tokens.length > 1 && isSigungu(tokens[1])) {
+            return sido + " " + tokens[1];
+        }
+        return sido;
+    }
+
+    private static String normalizeSido(String token) {
+        if (SIDO_ALIASES.containsKey(token)) return SIDO_ALIASES.get(token);
+        if (token.endsWith("특별시") || token.endsWith("광역시") || token.endsWith("특별자치시")
+                || token.endsWith("특별자치도") || token.endsWith("도")) {
+            return token;
+        }
+        return null;
+    }
+
+    private static boolean isSigungu(String token) {
+        return token.length() > 1 && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.farming.domain.farm.repository;
+
+import com.project.farming.domain.farm.entity.Farm;
+import com.project.farming.domain.farm.entity.FarmRegion;
+import com.project.farming.global.jdbc.JdbcBatchWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 텃밭 정보 대량 변경(JDBC 배치)
+ */
+@RequiredArgsConstructor
+@Repository
+public class FarmJdbcRepository {
+
+    private static final String UPDATE_REGION = "UPDATE farm_info SET region = ? WHERE farm_id = ?";
+
+    private final JdbcBatchWriter jdbcBatchWriter;
+
+    /**
+     * 주소로 지역(region)만 다시 계산해서 저장(updated_at은 변경하지 않음)
+     *
+     * @return 처리한 텃밭 수
+     */
+    public int updateRegions(List<Farm> farmList) {
+        return jdbcBatchWriter.batchUpdate(UPDATE_REGION, farmList, (ps, farm) -> {
+            ps.setString(1, FarmRegion.from(farm.getLotNumberAddress(), farm.getRoadNameAddress()));
+            ps.setLong(2, farm.getFarmId());
+        });
+    }
+}
@@ -1,10 +1,13 @@
 package com.project.farming.domain.farm.repository;
 
+import com.project.farming.domain.farm.dto.FarmPoint;
+import com.project.farming.domain.farm.dto.FarmRegionCount;
 import com.project.farming.domain.farm.entity.Farm;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +15,18 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
     boolean existsByGardenUniqueId(int gardenUniqueId);
     List<Farm> findAllByOrderByGardenUniqueIdAsc();
     List<Farm> findByFarmNameContainingOrderByGardenUniqueIdAsc(String keyword);
+    List<Farm> findByRegionOrderByGardenUniqueIdAsc(String region);
+    List<Farm> findByRegionIsNull();
+
+    // '미분류'는 FarmRegion.UNKNOWN(지역을 추출할 수 없는 텃밭)
+    @Query("""
+        SELECT f.region AS region, COUNT(f) AS farmCount
+        FROM Farm f
+        WHERE f.region IS NOT NULL AND f.region <> '미분류'
+        GROUP BY f.region
+        ORDER BY f.region ASC
+        """)
+    List<FarmRegionCount> countFarmsByRegion();
 
     @Query(value = """
         SELECT * FROM farm_info
@@ -41,8 +56,22 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
             @Param("longitude") Double longitude,
             @Param("radius") Double radius);
 
+    @Query("""
+        SELECT f.farmId AS farmId, f.latitude AS latitude, f.longitude AS longitude
+        FROM Farm f
+        WHERE f.latitude BETWEEN :minLatitude AND :maxLatitude
+          AND f.longitude BETWEEN :minLongitude AND :maxLongitude
+        """)
+    List<FarmPoint> findFarmPointsWithinBounds(
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude);
+
     Optional<Farm> findByGardenUniqueId(int gardenUniqueId);
 
+    List<Farm> findByGardenUniqueIdIn(Collection<Integer> gardenUniqueIds);
+
     @Query(value ="SELECT * FROM farm_info WHERE farm_name = :farmName LIMIT 1" , nativeQuery = true)
     Optional<Farm> getOtherFarm(@Param("farmName") String farmName);
 }
@@ -5,12 +5,11 @@ import com.project.farming.domain.farm.dto.FarmResponse;
 import com.project.farming.domain.farm.entity.Farm;
 import com.project.farming.domain.farm.repository.FarmRepository;
 import com.project.farming.domain.userplant.repository.UserPlantRepository;
+import com.project.farming.domain.userplant.service.UserPlantSearchIndex;
 import com.project.farming.global.exception.FarmNotFoundException;
-import com.project.farming.global.exception.ImageFileNotFoundException;
-import com.project.farming.global.image.entity.DefaultImages;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.ImageFile;
-import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import com.project.farming.global.image.service.ImageFileService;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -28,8 +27,10 @@ public class FarmAdminService {
 
     private final FarmRepository farmRepository;
     private final ImageFileService imageFileService;
-    private final ImageFileRepository imageFileRepository;
+    private final DefaultImageRegistry defaultImageRegistry;
     private final UserPlantRepository userPlantRepository;
+    private final UserPlantSearchIndex userPlantSearchIndex;
+    private final FarmClusterService farmClusterService;
 
     /**
      * 새로운 텃밭 정보 등록
@@ -66,6 +67,7 @@ public class FarmAdminService {
             ImageFile imageFile = imageFileService.uploadImage(file, ImageDomainType.FARM, farmId);
             savedFarm.updateFarmImage(imageFile);
         }
+        farmClusterService.evictAll();
     }
 
     /**
@@ -114,10 +116,10 @@ public class FarmAdminService {
         Farm farm = findFarmById(farmId);
         if (newFile != null && !newFile.isEmpty()) {
             // 새로운 이미지 파일이 첨부되어 있는 경우
-            ImageFile imageFile = imageFileService.updateImage(
-                    farm.getFarmImageFile().getImageFileId(), // 기존 이미지 파일
-                    newFile, ImageDomainType.FARM, farmId);
+            ImageFile oldImageFile = farm.getFarmImageFile(); // 기존 이미지 파일
+            ImageFile imageFile = imageFileService.uploadImage(newFile, ImageDomainType.FARM, farmId);
             farm.updateFarmImage(imageFile);
+            imageFileService.deleteImage(oldImageFile.getImageFileId()); // 다른 곳에서 사용 중이거나 기본 이미지면 삭제되지 않음
         }
         farm.updateFarmInfo(request.getGardenUniqueId(),
                 getOrDefault(request.getOperator()), getOrDefault(request.getFarmName()),
@@ -125,6 +127,7 @@ public class FarmAdminService {
                 getOrDefault(request.getFacilities()), getOrDefault(request.getContact()),
                 getOrDefault(request.getLatitude()), getOrDefault(request.getLongitude()), request.getAvailable());
         farmRepository.save(farm);
+        farmClusterService.evictAll();
     }
 
     /**
@@ -152,6 +155,8 @@ public class FarmAdminService {
                 "해당 텃밭({})과 매핑된 사용자 식물 {}개의 텃밭 정보가 '기타(Other)'로 수정되었습니다.", farmId, updatedCount);
         farmRepository.delete(farm);
         imageFileService.deleteImage(farm.getFarmImageFile().getImageFileId()); // 기존 이미지 파일
+        farmClusterService.evictAll();
+        userPlantSearchIndex.evictAll(); // 영향받은 사용자를 모르므로 전체 제거
     }
 
     /**
@@ -160,11 +165,7 @@ public class FarmAdminService {
      * @return 텃밭 기본 이미지
      */
     private ImageFile getDefaultImageFile() {
-        return imageFileRepository.findByS3Key(DefaultImages.DEFAULT_FARM_IMAGE)
-                .orElseThrow(() -> {
-                    log.error("기본 텃밭 이미지가 존재하지 않습니다.");
-                    return new ImageFileNotFoundException("기본 텃밭 이미지가 존재하지 않습니다.");
-                });
+        return defaultImageRegistry.getDefaultFarmImage();
     }
 
     /**
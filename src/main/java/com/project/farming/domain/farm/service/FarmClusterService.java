@@ -0,0 +1,218 @@
+package com.project.farming.domain.farm.service;
+
+import com.project.farming.domain.farm.dto.FarmClusterResponse;
+import com.project.farming.domain.farm.dto.FarmPoint;
+import com.project.farming.domain.farm.repository.FarmRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FarmClusterService {
+
+    private static final int MIN_ZOOM = 0;
+    private static final int MAX_ZOOM = 21;
+    private static final int CELLS_PER_TILE = 4; // 타일 한 변을 나누는 그리드 셀 수
+    private static final int MAX_TILES_PER_REQUEST = 400;
+    private static final int MAX_CACHED_TILES = 10_000;
+    private static final int SAMPLE_SIZE = 5;
+
+    private final FarmRepository farmRepository;
+
+    // 타일("zoom/x/y")별 클러스터 캐시
+    // - 초기화할 때 비우지 않고 새 맵으로 교체(세대 교체). 교체 전에 시작된 조회의 결과는 이전 맵에만 저장됨
+    private volatile Map<String, List<FarmClusterResponse>> tileCache = new ConcurrentHashMap<>();
+
+    /**
+     * 지도 영역 내 텃밭 클러스터 조회
+     * - 줌 레벨에 따라 지도를 타일로 나누고, 각 타일을 그리드 셀로 나누어 텃밭을 묶음
+     * - 타일 단위로 계산 결과를 캐싱하고, 캐시에 없는 타일만 한 번의 쿼리로 조회
+     *
+     * @param bbox 지도 영역(minLongitude,minLatitude,maxLongitude,maxLatitude)
+     * @param zoom 줌 레벨(0~21)
+     * @return 클러스터(중심 좌표, 텃밭 수, 일부 텃밭 ID) Response DTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<FarmClusterResponse> findClusters(String bbox, int zoom) {
+        double[] bounds = parseBbox(bbox);
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        double tileSize = 360.0 / (1L << z);
+
+        int minX = tileIndex(bounds[0] + 180, tileSize);
+        int maxX = tileIndex(bounds[2] + 180, tileSize);
+        int minY = tileIndex(bounds[1] + 90, tileSize);
+        int maxY = tileIndex(bounds[3] + 90, tileSize);
+        long tileCount = (long) (maxX - minX + 1) * (maxY - minY + 1);
+        if (tileCount > MAX_TILES_PER_REQUEST) {
+            log.error("조회 범위가 너무 넓습니다: bbox={}, zoom={}", bbox, z);
+            throw new IllegalArgumentException("조회 범위가 너무 넓습니다. 지도를 확대해주세요.");
+        }
+
+        // 조회 전에 현재 세대의 캐시를 잡아 두고 계산 결과도 그 캐시에만 저장
+        Map<String, List<FarmClusterResponse>> cache = tileCache;
+        Map<String, List<FarmClusterResponse>> tiles = new LinkedHashMap<>();
+        List<String> missingTiles = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                String key = tileKey(z, x, y);
+                List<FarmClusterResponse> cached = cache.get(key);
+                tiles.put(key, cached);
+                if (cached == null) missingTiles.add(key);
+            }
+        }
+        if (!missingTiles.isEmpty()) {
+            Map<String, List<FarmClusterResponse>> loaded = loadTiles(z, tileSize, missingTiles);
+            if (cache.size() + loaded.size() > MAX_CACHED_TILES) {
+                cache.clear();
+            }
+            cache.putAll(loaded);
+            tiles.putAll(loaded);
+        }
+
+        List<FarmClusterResponse> clusters = new ArrayList<>();
+        tiles.values().forEach(clusters::addAll);
+        return clusters;
+    }
+
+    /**
+     * 클러스터 캐시 초기화
+     * - 텃밭 정보가 등록/수정/삭제된 경우 호출
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 초기화
+     */
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tileCache = new ConcurrentHashMap<>();
+                }
+            });
+        } else {
+            tileCache = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 캐시에 없는 타일들의 클러스터 계산
+     * - 누락된 타일 전체를 감싸는 영역을 한 번에 조회한 뒤 타일/셀별로 분류
+     *
+     * @param zoom 줌 레벨
+     * @param tileSize 타일 한 변의 크기(단위: 도)
+     * @param tileKeys 계산할 타일 키 목록
+     * @return 타일 키별 클러스터 리스트
+     */
+    private Map<String, List<FarmClusterResponse>> loadTiles(int zoom, double tileSize, List<String> tileKeys) {
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (String key : tileKeys) {
+            String[] parts = key.split("/");
+            int x = Integer.parseInt(parts[1]);
+            int y = Integer.parseInt(parts[2]);
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+        List<FarmPoint> points = farmRepository.findFarmPointsWithinBounds(
+                minY * tileSize - 90, (maxY + 1) * tileSize - 90,
+                minX * tileSize - 180, (maxX + 1) * tileSize - 180);
+
+        Map<String, Map<Long, ClusterAccumulator>> cellsByTile = new HashMap<>();
+        for (String key : tileKeys) {
+            cellsByTile.put(key, new LinkedHashMap<>());
+        }
+        double cellSize = tileSize / CELLS_PER_TILE;
+        for (FarmPoint point : points) {
+            if (point.getLatitude() == null || point.getLongitude() == null) continue;
+            double lng = point.getLongitude() + 180;
+            double lat = point.getLatitude() + 90;
+            Map<Long, ClusterAccumulator> cells = cellsByTile.get(
+                    tileKey(zoom, tileIndex(lng, tileSize), tileIndex(lat, tileSize)));
+            if (cells == null) continue; // 이미 캐시된 타일
+            long cellKey = ((long) tileIndex(lng, cellSize) << 32) | (tileIndex(lat, cellSize) & 0xffffffffL);
+            cells.computeIfAbsent(cellKey, k -> new ClusterAccumulator()).add(point);
+        }
+
+        Map<String, List<FarmClusterResponse>> result = new HashMap<>();
+        cellsByTile.forEach((key, cells) -> result.put(key, cells.values().stream()
+                .map(ClusterAccumulator::toResponse)
+                .toList()));
+        log.info("텃밭 클러스터 타일 {}개 계산 (텃밭 {}개)", tileKeys.size(), points.size());
+        return result;
+    }
+
+    /**
+     * bbox 문자열 파싱
+     *
+     * @param bbox minLongitude,minLatitude,maxLongitude,maxLatitude
+     * @return [minLongitude, minLatitude, maxLongitude, maxLatitude]
+     */
+    private double[] parseBbox(String bbox) {
+        String[] parts = bbox == null ? new String[0] : bbox.split(",");
+        if (parts.length != 4) {
+            log.error("잘못된 bbox 형식입니다: {}", bbox);
+            throw new IllegalArgumentException("bbox는 'minLongitude,minLatitude,maxLongitude,maxLatitude' 형식이어야 합니다.");
+        }
+        double[] bounds = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                bounds[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            log.error("잘못된 bbox 형식입니다: {}", bbox);
+            throw new IllegalArgumentException("bbox 좌표는 숫자여야 합니다: " + bbox);
+        }
+        if (bounds[0] > bounds[2] || bounds[1] > bounds[3]
+                || bounds[0] < -180 || bounds[2] > 180 || bounds[1] < -90 || bounds[3] > 90) {
+            log.error("잘못된 bbox 범위입니다: {}", bbox);
+            throw new IllegalArgumentException("bbox 범위가 올바르지 않습니다: " + bbox);
+        }
+        return bounds;
+    }
+
+    private int tileIndex(double offset, double size) {
+        return (int) Math.floor(offset / size);
+    }
+
+    private String tileKey(int zoom, int x, int y) {
+        return zoom + "/" + x + "/" + y;
+    }
+
+    /**
+     * 그리드 셀 하나에 속한 텃밭들의 중심 좌표와 개수 누적
+     */
+    private static class ClusterAccumulator {
+        private double latitudeSum;
+        private double longitudeSum;
+        private int count;
+        private final List<Long> sampleFarmIds = new ArrayList<>(SAMPLE_SIZE);
+
+        void add(FarmPoint point) {
+            latitudeSum += point.getLatitude();
+            longitudeSum += point.getLongitude();
+            count++;
+            if (sampleFarmIds.size() < SAMPLE_SIZE) sampleFarmIds.add(point.getFarmId());
+        }
+
+        FarmClusterResponse toResponse() {
+            return FarmClusterResponse.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .sampleFarmIds(sampleFarmIds)
+                    .build();
+        }
+    }
+}
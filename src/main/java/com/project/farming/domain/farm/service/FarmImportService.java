@@ -0,0 +1,353 @@
+package com.project.farming.domain.farm.service;
+
+import com.project.farming.domain.farm.dto.FarmImportResult;
+import com.project.farming.domain.farm.dto.FarmImportRow;
+import com.project.farming.domain.farm.entity.FarmRegion;
+import com.project.farming.global.exception.FarmImportException;
+import com.project.farming.global.image.entity.DefaultImages;
+import com.project.farming.global.image.service.DefaultImageRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 텃밭 공공데이터 가져오기
+ * - 엑셀 파일을 스트리밍으로 읽고, 고유번호(gardenUniqueId)를 기준으로 기존 텃밭 정보와 비교
+ * - 새로운 텃밭은 등록, 변경된 텃밭은 수정, 파일에 없는 텃밭은 미운영(available = false)으로 처리
+ * - 변경분만 JDBC 배치로 반영하므로 테이블을 비우지 않고 다시 실행 가능
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FarmImportService {
+
+    private static final String GYEONGGI_FARM_DATA = "/data/farmList.xlsx"; // 경기데이터드림
+    private static final String MAFRA_FARM_DATA = "/data/farmList2.xls"; // 농림축산식품 공공데이터 포털
+    private static final int BATCH_SIZE = 500;
+    private static final int OTHER_FARM_GARDEN_UNIQUE_ID = 1; // 사용자 입력 옵션('기타(Other)')
+    private static final String DEFAULT_STRING = "N/A";
+    private static final double DEFAULT_LAT_LNG = 0.0;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String SELECT_BY_GARDEN_UNIQUE_IDS = """
+            SELECT farm_id, garden_unique_id, operator, farm_name, road_name_address, lot_number_address,
+                   facilities, contact, latitude, longitude, available
+            FROM farm_info
+            WHERE garden_unique_id IN (:gardenUniqueIds)
+            """;
+    private static final String INSERT_FARM = """
+            INSERT INTO farm_info (garden_unique_id, operator, farm_name, road_name_address, lot_number_address,
+                                   facilities, contact, latitude, longitude, available, region,
+                                   farm_image_file_id, created_at, updated_at)
+            VALUES (:gardenUniqueId, :operator, :farmName, :roadNameAddress, :lotNumberAddress,
+                    :facilities, :contact, :latitude, :longitude, TRUE, :region,
+                    :farmImageFileId, :createdAt, :updatedAt)
+            """;
+    private static final String UPDATE_FARM = """
+            UPDATE farm_info
+            SET operator = :operator, farm_name = :farmName, road_name_address = :roadNameAddress,
+                lot_number_address = :lotNumberAddress, facilities = :facilities, contact = :contact,
+                latitude = :latitude, longitude = :longitude, available = TRUE, region = :region,
+                updated_at = :updatedAt
+            WHERE farm_id = :farmId
+            """;
+    private static final String SELECT_AVAILABLE_GARDEN_UNIQUE_IDS = """
+            SELECT garden_unique_id FROM farm_info
+            WHERE available = TRUE AND garden_unique_id <> :otherFarmId
+            """;
+    private static final String DEACTIVATE_FARM = """
+            UPDATE farm_info SET available = FALSE, updated_at = :updatedAt
+            WHERE garden_unique_id = :gardenUniqueId
+            """;
+
+    private final FarmSheetReader farmSheetReader;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DefaultImageRegistry defaultImageRegistry;
+    private final FarmClusterService farmClusterService;
+
+    /**
+     * 프로젝트에 포함된 텃밭 공공데이터 가져오기
+     * - 중복 데이터는 경기데이터드림 데이터를 우선 사용
+     *
+     * @return 가져오기 결과
+     */
+    @Transactional
+    public FarmImportResult importBundledFarmData() {
+        List<Path> files = new ArrayList<>();
+        try {
+            files.add(copyResourceToTempFile(GYEONGGI_FARM_DATA));
+            files.add(copyResourceToTempFile(MAFRA_FARM_DATA));
+            return importFarms(files);
+        } catch (IOException e) {
+            log.error("텃밭 공공데이터를 가져오는 중 오류가 발생했습니다: {}", e.getMessage());
+            throw new FarmImportException("텃밭 공공데이터를 가져오는 중 오류가 발생했습니다.", e);
+        } finally {
+            files.forEach(this::deleteTempFile);
+        }
+    }
+
+    /**
+     * 업로드한 텃밭 공공데이터 파일 가져오기
+     * - 여러 파일에 같은 고유번호가 있으면 앞의 파일의 데이터를 우선 사용
+     *
+     * @param uploadedFiles 업로드한 엑셀 파일 목록(xlsx 또는 xls)
+     * @return 가져오기 결과
+     */
+    @Transactional
+    public FarmImportResult importUploadedFarmData(List<MultipartFile> uploadedFiles) {
+        List<Path> files = new ArrayList<>();
+        try {
+            for (MultipartFile uploadedFile : uploadedFiles) {
+                if (uploadedFile == null || uploadedFile.isEmpty()) continue;
+                Path file = Files.createTempFile("farm-import-", ".tmp");
+                files.add(file);
+                uploadedFile.transferTo(file);
+            }
+            if (files.isEmpty()) {
+                throw new IllegalArgumentException("가져올 텃밭 데이터 파일이 없습니다.");
+            }
+            return importFarms(files);
+        } catch (IOException e) {
+            log.error("텃밭 공공데이터를 가져오는 중 오류가 발생했습니다: {}", e.getMessage());
+            throw new FarmImportException("텃밭 공공데이터를 가져오는 중 오류가 발생했습니다.", e);
+        } finally {
+            files.forEach(this::deleteTempFile);
+        }
+    }
+
+    /**
+     * 엑셀 파일들을 순서대로 읽어서 DB에 반영
+     *
+     * @param files 우선순위 순서의 엑셀 파일 목록
+     * @return 가져오기 결과
+     */
+    private FarmImportResult importFarms(List<Path> files) throws IOException {
+        Long defaultImageFileId = defaultImageRegistry.getDefaultImageId(DefaultImages.DEFAULT_FARM_IMAGE);
+        ImportBatch batch = new ImportBatch(defaultImageFileId);
+
+        for (Path file : files) {
+            farmSheetReader.read(file, batch::add);
+        }
+        batch.flush();
+        int deactivated = batch.seenGardenUniqueIds.isEmpty() ? 0 : deactivateMissingFarms(batch.seenGardenUniqueIds);
+
+        FarmImportResult result = FarmImportResult.builder()
+                .inserted(batch.inserted)
+                .updated(batch.updated)
+                .deactivated(deactivated)
+                .unchanged(batch.unchanged)
+                .skipped(batch.skipped)
+                .build();
+        log.info("텃밭 공공데이터 가져오기 완료 - 등록: {}, 수정: {}, 미운영 처리: {}, 변경 없음: {}, 건너뜀: {}",
+                result.getInserted(), result.getUpdated(), result.getDeactivated(),
+                result.getUnchanged(), result.getSkipped());
+        farmClusterService.evictAll();
+        return result;
+    }
+
+    /**
+     * 파일에 없는 텃밭을 미운영으로 처리
+     * - 사용자 입력 옵션('기타(Other)')은 제외
+     *
+     * @param seenGardenUniqueIds 파일에 포함된 텃밭 고유번호 목록
+     * @return 미운영으로 처리된 텃밭 수
+     */
+    private int deactivateMissingFarms(Set<Integer> seenGardenUniqueIds) {
+        List<Integer> missing = jdbcTemplate.queryForList(SELECT_AVAILABLE_GARDEN_UNIQUE_IDS,
+                        Map.of("otherFarmId", OTHER_FARM_GARDEN_UNIQUE_ID), Integer.class).stream()
+                .filter(id -> !seenGardenUniqueIds.contains(id))
+                .toList();
+        LocalDate today = LocalDate.now();
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            SqlParameterSource[] params = missing.subList(from, Math.min(from + BATCH_SIZE, missing.size())).stream()
+                    .map(id -> new MapSqlParameterSource()
+                            .addValue("gardenUniqueId", id)
+                            .addValue("updatedAt", today))
+                    .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(DEACTIVATE_FARM, params);
+        }
+        return missing.size();
+    }
+
+    /**
+     * 엑셀 파일에서 읽은 행을 BATCH_SIZE 단위로 모아서 기존 텃밭 정보와 비교 후 반영
+     */
+    private class ImportBatch {
+        private final Long defaultImageFileId;
+        private final Set<Integer> seenGardenUniqueIds = new HashSet<>();
+        private final Map<Integer, FarmImportRow> pending = new LinkedHashMap<>();
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private int skipped;
+
+        ImportBatch(Long defaultImageFileId) {
+            this.defaultImageFileId = defaultImageFileId;
+        }
+
+        void add(Map<String, String> values) {
+            FarmImportRow row = toFarmImportRow(values);
+            if (row == null || row.getGardenUniqueId() == OTHER_FARM_GARDEN_UNIQUE_ID
+                    || !seenGardenUniqueIds.add(row.getGardenUniqueId())) {
+                skipped++;
+                return;
+            }
+            pending.put(row.getGardenUniqueId(), row);
+            if (pending.size() >= BATCH_SIZE) flush();
+        }
+
+        void flush() {
+            if (pending.isEmpty()) return;
+            Map<Integer, FarmImportRow> existing = new HashMap<>();
+            jdbcTemplate.query(SELECT_BY_GARDEN_UNIQUE_IDS,
+                            Map.of("gardenUniqueIds", pending.keySet()),
+                            (rs, rowNum) -> FarmImportRow.builder()
+                                    .farmId(rs.getLong("farm_id"))
+                                    .gardenUniqueId(rs.getInt("garden_unique_id"))
+                                    .operator(rs.getString("operator"))
+                                    .farmName(rs.getString("farm_name"))
+                                    .roadNameAddress(rs.getString("road_name_address"))
+                                    .lotNumberAddress(rs.getString("lot_number_address"))
+                                    .facilities(rs.getString("facilities"))
+                                    .contact(rs.getString("contact"))
+                                    .latitude(rs.getObject("latitude", Double.class))
+                                    .longitude(rs.getObject("longitude", Double.class))
+                                    .available(rs.getBoolean("available"))
+                                    .build())
+                    .forEach(row -> existing.put(row.getGardenUniqueId(), row));
+
+            List<SqlParameterSource> inserts = new ArrayList<>();
+            List<SqlParameterSource> updates = new ArrayList<>();
+            LocalDate today = LocalDate.now();
+            for (FarmImportRow row : pending.values()) {
+                FarmImportRow current = existing.get(row.getGardenUniqueId());
+                if (current == null) {
+                    inserts.add(toParams(row)
+                            .addValue("farmImageFileId", defaultImageFileId)
+                            .addValue("createdAt", row.getCreatedAt())
+                            .addValue("updatedAt", row.getUpdatedAt()));
+                } else if (!current.hasSameContent(row)) {
+                    updates.add(toParams(row)
+                            .addValue("farmId", current.getFarmId())
+                            .addValue("updatedAt", today));
+                } else {
+                    unchanged++;
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_FARM, inserts.toArray(SqlParameterSource[]::new));
+                inserted += inserts.size();
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_FARM, updates.toArray(SqlParameterSource[]::new));
+                updated += updates.size();
+            }
+            pending.clear();
+        }
+    }
+
+    private MapSqlParameterSource toParams(FarmImportRow row) {
+        return new MapSqlParameterSource()
+                .addValue("gardenUniqueId", row.getGardenUniqueId())
+                .addValue("operator", row.getOperator())
+                .addValue("farmName", row.getFarmName())
+                .addValue("roadNameAddress", row.getRoadNameAddress())
+                .addValue("lotNumberAddress", row.getLotNumberAddress())
+                .addValue("facilities", row.getFacilities())
+                .addValue("contact", row.getContact())
+                .addValue("latitude", row.getLatitude())
+                .addValue("longitude", row.getLongitude())
+                .addValue("region", FarmRegion.from(row.getLotNumberAddress(), row.getRoadNameAddress()));
+    }
+
+    /**
+     * 엑셀 행(제목 -> 값)을 텃밭 정보로 변환
+     * - 값이 없거나 '-'인 경우 기본값 사용
+     *
+     * @param values 엑셀 행
+     * @return 텃밭 정보, 고유번호가 올바르지 않으면 null
+     */
+    private FarmImportRow toFarmImportRow(Map<String, String> values) {
+        Integer gardenUniqueId = parseGardenUniqueId(values.get("gardenUniqueId"));
+        if (gardenUniqueId == null) return null;
+        return FarmImportRow.builder()
+                .gardenUniqueId(gardenUniqueId)
+                .operator(getOrDefault(values.get("operator")))
+                .farmName(getOrDefault(values.get("farmName")))
+                .roadNameAddress(getOrDefault(values.get("roadNameAddress")))
+                .lotNumberAddress(getOrDefault(values.get("lotNumberAddress")))
+                .facilities(getOrDefault(values.get("facilities")))
+                .contact(getOrDefault(values.get("contact")))
+                .latitude(parseDoubleOrDefault(values.get("latitude")))
+                .longitude(parseDoubleOrDefault(values.get("longitude")))
+                .available(true)
+                .createdAt(parseDate(values.get("createdAt")))
+                .updatedAt(parseDate(values.get("updatedAt")))
+                .build();
+    }
+
+    private Integer parseGardenUniqueId(String val) {
+        try {
+            return val == null ? null : (int) Double.parseDouble(val);
+        } catch (NumberFormatException e) {
+            log.warn("텃밭 고유번호 파싱 실패: {} -> 해당 행은 건너뜀", val);
+            return null;
+        }
+    }
+
+    private String getOrDefault(String val) {
+        return val == null || val.isBlank() || val.equals("-") ? DEFAULT_STRING : val;
+    }
+
+    private Double parseDoubleOrDefault(String val) {
+        try {
+            return val == null || val.isBlank() ? DEFAULT_LAT_LNG : Double.parseDouble(val);
+        } catch (NumberFormatException e) {
+            log.warn("좌표 파싱 실패: {} -> 기본값({}) 사용", val, DEFAULT_LAT_LNG);
+            return DEFAULT_LAT_LNG;
+        }
+    }
+
+    private LocalDate parseDate(String val) {
+        if (val == null || val.isBlank()) return LocalDate.now();
+        try {
+            return LocalDate.parse(val, DATE_FORMATTER);
+        } catch (Exception e) {
+            log.warn("날짜 파싱 실패: {} -> 기본값(현재 날짜) 사용", e.getMessage());
+            return LocalDate.now();
+        }
+    }
+
+    private Path copyResourceToTempFile(String resourceName) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException(resourceName + " 엑셀 파일을 찾을 수 없습니다.");
+            }
+            Path file = Files.createTempFile("farm-import-", ".tmp");
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        }
+    }
+
+    private void deleteTempFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
+    }
+}
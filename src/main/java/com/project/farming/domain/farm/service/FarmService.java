@@ -1,13 +1,15 @@
 package com.project.farming.domain.farm.service;
 
+import com.project.farming.domain.farm.dto.FarmRegionResponse;
 import com.project.farming.domain.farm.dto.FarmResponse;
 import com.project.farming.domain.farm.entity.Farm;
+import com.project.farming.domain.farm.entity.FarmRegion;
+import com.project.farming.domain.farm.repository.FarmJdbcRepository;
 import com.project.farming.domain.farm.repository.FarmRepository;
 import com.project.farming.global.exception.FarmNotFoundException;
-import com.project.farming.global.exception.ImageFileNotFoundException;
-import com.project.farming.global.image.entity.DefaultImages;
 import com.project.farming.global.image.entity.ImageFile;
-import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.entity.ImageVariant;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +24,8 @@ import java.util.stream.Collectors;
 public class FarmService {
 
     private final FarmRepository farmRepository;
-    private final ImageFileRepository imageFileRepository;
+    private final FarmJdbcRepository farmJdbcRepository;
+    private final DefaultImageRegistry defaultImageRegistry;
 
     /**
      * 전체 텃밭 목록 조회(고유번호순)
@@ -41,6 +44,38 @@ public class FarmService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 지역별 텃밭 목록 조회(고유번호순)
+     * - 지역 컬럼 인덱스로 조회
+     * - 일부 정보만 반환
+     *
+     * @param region 지역(시/도 + 시/군/구) - 지역 목록 조회 결과의 region 값
+     * @return 해당 지역 텃밭 정보의 Response DTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<FarmResponse> findFarmsByRegion(String region) {
+        List<Farm> foundFarms = farmRepository.findByRegionOrderByGardenUniqueIdAsc(region);
+        return foundFarms.stream()
+                .map(farm -> toFarmResponseBuilder(farm, false).build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 지역 목록 조회(지역명순)
+     * - 지역별 텃밭 수 포함
+     *
+     * @return 지역 Response DTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<FarmRegionResponse> findAllRegions() {
+        return farmRepository.countFarmsByRegion().stream()
+                .map(regionCount -> FarmRegionResponse.builder()
+                        .region(regionCount.getRegion())
+                        .farmCount(regionCount.getFarmCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * 텃밭 목록 검색(고유번호순)
      * - 텃밭의 이름 또는 주소(도로명주소, 지번주소)로 검색(통합)
@@ -103,8 +138,12 @@ public class FarmService {
                 .operator(farm.getOperator())
                 .farmName(farm.getFarmName())
                 .lotNumberAddress(farm.getLotNumberAddress())
+                .region(FarmRegion.UNKNOWN.equals(farm.getRegion()) ? null : farm.getRegion())
                 .updatedAt(farm.getUpdatedAt())
-                .farmImageUrl(farm.getFarmImageFile().getImageUrl());
+                // 목록은 카드 크기 축소본, 상세는 원본
+                .farmImageUrl(includeDetails
+                        ? farm.getFarmImageFile().getImageUrl()
+                        : farm.getFarmImageFile().getImageUrl(ImageVariant.MEDIUM));
         if (includeDetails) {
             builder.roadNameAddress(farm.getRoadNameAddress())
                     .facilities(farm.getFacilities())
@@ -134,19 +173,21 @@ public class FarmService {
      * @return 텃밭 기본 이미지
      */
     private ImageFile getDefaultImageFile() {
-        return imageFileRepository.findByS3Key(DefaultImages.DEFAULT_FARM_IMAGE)
-                .orElseThrow(() -> new ImageFileNotFoundException("기본 텃밭 이미지가 존재하지 않습니다."));
+        return defaultImageRegistry.getDefaultFarmImage();
     }
 
     /**
      * FarmDataInitializer에서 사용
-     * - 텃밭 정보 리스트 저장
-     *
-     * @param farmList 저장할 초기 텃밭 정보 목록
+     * - 지역 정보가 없는 기존 텃밭의 지역 설정
+     * - 엔티티를 수정하면 @PreUpdate가 최종 수정일(updatedAt)을 오늘로 바꾸므로, 배치 UPDATE로 region만 변경
+     * - 주소에서 지역을 추출할 수 없으면 UNKNOWN으로 저장해서 다음 서버 시작 때 다시 처리하지 않음
      */
     @Transactional
-    public void saveFarms(List<Farm> farmList) {
-        farmRepository.saveAll(farmList);
+    public void fillMissingRegions() {
+        List<Farm> farmList = farmRepository.findByRegionIsNull();
+        if (farmList.isEmpty()) return;
+        int filledCount = farmJdbcRepository.updateRegions(farmList);
+        log.info("{}개 텃밭의 지역 정보가 설정되었습니다.", filledCount);
     }
 
     /**
@@ -0,0 +1,213 @@
+package com.project.farming.domain.farm.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.record.*;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 텃밭 공공데이터 엑셀 파일 스트리밍 리더
+ * - 워크북 전체를 메모리에 올리지 않고 POI 이벤트 API로 첫 번째 시트를 한 행씩 읽음
+ * - xlsx는 SAX 기반 XSSF 이벤트 API, xls는 HSSF 레코드 이벤트 API 사용
+ * - 첫 행을 제목 행으로 보고, 이후 각 행을 (제목 -> 값) Map으로 전달
+ */
+@Slf4j
+@Component
+public class FarmSheetReader {
+
+    /**
+     * 엑셀 파일의 각 행을 순서대로 전달
+     *
+     * @param file 읽을 엑셀 파일(xlsx 또는 xls)
+     * @param rowConsumer 행(제목 -> 값)을 전달받을 Consumer
+     */
+    public void read(Path file, Consumer<Map<String, String>> rowConsumer) throws IOException {
+        FileMagic fileMagic;
+        try (InputStream inputStream = FileMagic.prepareToCheckMagic(Files.newInputStream(file))) {
+            fileMagic = FileMagic.valueOf(inputStream);
+        }
+        switch (fileMagic) {
+            case OOXML -> readXlsx(file, rowConsumer);
+            case OLE2 -> readXls(file, rowConsumer);
+            default -> throw new IllegalArgumentException("지원하지 않는 엑셀 파일 형식입니다: " + fileMagic);
+        }
+    }
+
+    private void readXlsx(Path file, Consumer<Map<String, String>> rowConsumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+
+            RowCollector collector = new RowCollector(rowConsumer);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, strings, new XlsxRowHandler(collector), new RawNumberFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("xlsx 파일을 읽을 수 없습니다: " + file.getFileName(), e);
+        }
+    }
+
+    private void readXls(Path file, Consumer<Map<String, String>> rowConsumer) throws IOException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(file.toFile(), true)) {
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(new XlsRowListener(new RowCollector(rowConsumer)));
+            new HSSFEventFactory().processWorkbookEvents(request, fs);
+        }
+    }
+
+    /**
+     * 숫자 셀 값을 표시 형식(천 단위 구분, 반올림 등) 없이 그대로 문자열로 변환
+     * - 위도/경도, 날짜(yyyyMMdd) 값이 셀 서식에 의해 바뀌지 않도록 함
+     */
+    private static String toPlainNumber(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    private static class RawNumberFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            return toPlainNumber(value);
+        }
+    }
+
+    /**
+     * 한 행의 셀 값을 모아서 제목 행 기준의 Map으로 변환
+     */
+    private static class RowCollector {
+        private final Consumer<Map<String, String>> rowConsumer;
+        private final Map<Integer, String> headers = new HashMap<>();
+        private final Map<Integer, String> cells = new TreeMap<>();
+        private int currentRow = -1;
+
+        RowCollector(Consumer<Map<String, String>> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        void cell(int row, int column, String value) {
+            if (row != currentRow) endRow();
+            currentRow = row;
+            if (value != null && !value.isBlank()) cells.put(column, value.trim());
+        }
+
+        void endRow() {
+            if (currentRow < 0) return;
+            if (headers.isEmpty()) {
+                headers.putAll(cells); // 제목 행
+            } else if (!cells.isEmpty()) {
+                Map<String, String> values = new HashMap<>();
+                cells.forEach((column, value) -> {
+                    String header = headers.get(column);
+                    if (header != null) values.put(header, value);
+                });
+                rowConsumer.accept(values);
+            }
+            cells.clear();
+            currentRow = -1;
+        }
+    }
+
+    private static class XlsxRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowCollector collector;
+        private int rowNum;
+
+        XlsxRowHandler(RowCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.rowNum = rowNum;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            collector.endRow();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null) return;
+            collector.cell(rowNum, new CellReference(cellReference).getCol(), formattedValue);
+        }
+    }
+
+    private static class XlsRowListener implements HSSFListener {
+        private final RowCollector collector;
+        private SSTRecord sharedStrings;
+        private int sheetIndex = -1;
+        private boolean inFirstSheet;
+
+        XlsRowListener(RowCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void processRecord(org.apache.poi.hssf.record.Record record) {
+            if (record instanceof BOFRecord bof) {
+                if (bof.getType() == BOFRecord.TYPE_WORKSHEET) {
+                    sheetIndex++;
+                    inFirstSheet = sheetIndex == 0;
+                }
+            } else if (record instanceof SSTRecord sst) {
+                sharedStrings = sst;
+            } else if (record instanceof EOFRecord) {
+                if (inFirstSheet) {
+                    collector.endRow();
+                    inFirstSheet = false;
+                }
+            } else if (inFirstSheet) {
+                if (record instanceof LabelSSTRecord label) {
+                    collector.cell(label.getRow(), label.getColumn(),
+                            sharedStrings.getString(label.getSSTIndex()).getString());
+                } else if (record instanceof LabelRecord label) {
+                    collector.cell(label.getRow(), label.getColumn(), label.getValue());
+                } else if (record instanceof NumberRecord number) {
+                    collector.cell(number.getRow(), number.getColumn(), toPlainNumber(number.getValue()));
+                } else if (record instanceof FormulaRecord formula
+                        && formula.getCachedResultTypeEnum() == CellType.NUMERIC) {
+                    collector.cell(formula.getRow(), formula.getColumn(), toPlainNumber(formula.getValue()));
+                }
+            }
+        }
+    }
+}
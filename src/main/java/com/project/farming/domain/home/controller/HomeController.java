@@ -0,0 +1,40 @@
+package com.project.farming.domain.home.controller;
+
+import com.project.farming.domain.home.dto.HomeResponse;
+import com.project.farming.domain.home.service.HomeService;
+import com.project.farming.global.jwtToken.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Home API", description = "앱 홈 화면 관련 API")
+@SecurityRequirement(name = "jwtAuth")
+@RequestMapping("/api/home")
+@RequiredArgsConstructor
+@RestController
+public class HomeController {
+
+    private final HomeService homeService;
+
+    @GetMapping
+    @Operation(summary = "홈 화면 정보 조회",
+            description = """
+                    앱 시작 시 필요한 정보를 한 번에 조회합니다.
+                    사용자 식물 목록(별명순), 식물별 오늘 작업(물 주기/가지치기/영양제 주기) 상태와 다음 예정일,
+                    오늘 남은/완료한 작업 수, 읽지 않은 알림 수를 반환합니다.
+                    결과는 짧은 시간 동안 캐싱됩니다.
+                    """)
+    public ResponseEntity<HomeResponse> getHome(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Long userId = customUserDetails.getUser().getUserId();
+        return ResponseEntity.ok(homeService.getHome(userId));
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.farming.domain.home.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HomePlantResponse {
+    private Long userPlantId;
+    private String plantName; // 식물 종류(등록된 식물, 직접 입력)
+    private String plantNickname;
+    private String userPlantImageUrl;
+
+    private HomeTaskResponse water; // 물 주기
+    private HomeTaskResponse prune; // 가지치기
+    private HomeTaskResponse fertilize; // 영양제 주기
+}
@@ -0,0 +1,15 @@
+package com.project.farming.domain.home.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class HomeResponse {
+    private List<HomePlantResponse> plants; // 사용자 식물(별명순)
+    private int dueTaskCount; // 오늘 남은 작업 수
+    private int completedTaskCount; // 오늘 완료한 작업 수
+    private long unreadNotificationCount; // 읽지 않은 알림 수
+}
@@ -0,0 +1,14 @@
+package com.project.farming.domain.home.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class HomeTaskResponse {
+    private boolean dueToday; // 오늘 해야 하는 작업인지(아직 완료 전)
+    private boolean completedToday; // 오늘 완료했는지
+    private LocalDate nextDueDate; // 다음 예정일(마지막 작업일 + 간격)
+}
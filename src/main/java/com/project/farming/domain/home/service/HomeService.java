@@ -0,0 +1,176 @@
+package com.project.farming.domain.home.service;
+
+import com.project.farming.domain.home.dto.HomePlantResponse;
+import com.project.farming.domain.home.dto.HomeResponse;
+import com.project.farming.domain.home.dto.HomeTaskResponse;
+import com.project.farming.domain.notification.repository.NotificationRepository;
+import com.project.farming.domain.userplant.entity.UserPlant;
+import com.project.farming.domain.userplant.repository.UserPlantRepository;
+import com.project.farming.global.image.entity.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 홈 화면 정보 조회
+ * - 사용자 식물 목록, 오늘 할 작업/완료한 작업, 다음 예정일, 읽지 않은 알림 수를 한 번에 반환
+ * - 식물 조회(+ Redis 오늘 작업 상태 조회)와 알림 개수 조회를 동시에 실행
+ * - 사용자별로 짧은 시간(TTL) 동안 결과를 캐싱
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class HomeService {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final UserPlantRepository userPlantRepository;
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor homeQueryExecutor;
+
+    @Value("${home.cache.ttl-seconds:10}")
+    private long ttlSeconds;
+
+    private final Map<Long, CachedHome> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 홈 화면 정보 조회
+     *
+     * @param userId 사용자 ID
+     * @return 홈 화면 Response DTO
+     */
+    public HomeResponse getHome(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedHome cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.response;
+        }
+
+        LocalDate today = LocalDate.now();
+        CompletableFuture<List<HomePlantResponse>> plantsFuture = CompletableFuture
+                .supplyAsync(() -> userPlantRepository.findByUserIdWithImageFile(userId), homeQueryExecutor)
+                .thenApply(userPlants -> toHomePlantResponses(userPlants, today));
+        CompletableFuture<Long> unreadCountFuture = CompletableFuture
+                .supplyAsync(() -> notificationRepository.countByUser_UserIdAndIsReadFalse(userId), homeQueryExecutor);
+
+        HomeResponse response;
+        try {
+            List<HomePlantResponse> plants = plantsFuture.join();
+            response = HomeResponse.builder()
+                    .plants(plants)
+                    .dueTaskCount(countTasks(plants, true))
+                    .completedTaskCount(countTasks(plants, false))
+                    .unreadNotificationCount(unreadCountFuture.join())
+                    .build();
+        } catch (CompletionException e) {
+            log.error("홈 화면 정보 조회 실패 (userId={}): {}", userId, e.getCause().getMessage());
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+
+        if (cache.size() >= MAX_CACHED_USERS) {
+            cache.clear();
+        }
+        cache.put(userId, new CachedHome(response, now + ttlSeconds * 1000));
+        return response;
+    }
+
+    /**
+     * 사용자 식물별 오늘 작업 상태 계산
+     * - 오늘 완료 여부는 Redis의 오늘 작업 상태(userplant:{id}:{yyyyMMdd})와 마지막 작업일로 판단
+     *
+     * @param userPlants 사용자 식물 리스트(이미지 포함)
+     * @param today 오늘 날짜
+     * @return 홈 화면 식물 Response DTO 리스트
+     */
+    private List<HomePlantResponse> toHomePlantResponses(List<UserPlant> userPlants, LocalDate today) {
+        List<Map<String, String>> dailyStatuses = findDailyStatuses(userPlants, today);
+        List<HomePlantResponse> responses = new ArrayList<>(userPlants.size());
+        for (int i = 0; i < userPlants.size(); i++) {
+            UserPlant userPlant = userPlants.get(i);
+            Map<String, String> status = dailyStatuses.get(i);
+            responses.add(HomePlantResponse.builder()
+                    .userPlantId(userPlant.getUserPlantId())
+                    .plantName(userPlant.getPlantName())
+                    .plantNickname(userPlant.getPlantNickname())
+                    .userPlantImageUrl(userPlant.getUserPlantImageFile().getImageUrl(ImageVariant.SMALL))
+                    .water(toTask(userPlant.getLastWateredDate(), userPlant.getWaterIntervalDays(),
+                            "true".equals(status.get("watered")), today))
+                    .prune(toTask(userPlant.getLastPrunedDate(), userPlant.getPruneIntervalDays(),
+                            "true".equals(status.get("pruned")), today))
+                    .fertilize(toTask(userPlant.getLastFertilizedDate(), userPlant.getFertilizeIntervalDays(),
+                            "true".equals(status.get("fertilized")), today))
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 사용자 식물들의 오늘 작업 상태를 파이프라인으로 한 번에 조회
+     *
+     * @return 사용자 식물 순서대로의 오늘 작업 상태(없으면 빈 Map)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> findDailyStatuses(List<UserPlant> userPlants, LocalDate today) {
+        if (userPlants.isEmpty()) return List.of();
+        String date = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UserPlant userPlant : userPlants) {
+                    stringConnection.hGetAll("userplant:" + userPlant.getUserPlantId() + ":" + date);
+                }
+                return null;
+            });
+            List<Map<String, String>> statuses = new ArrayList<>(results.size());
+            for (Object result : results) {
+                statuses.add(result instanceof Map<?, ?> map ? (Map<String, String>) map : Map.of());
+            }
+            return statuses;
+        } catch (Exception e) {
+            log.warn("오늘 작업 상태 조회 실패, 마지막 작업일로만 판단합니다: {}", e.getMessage());
+            return Collections.nCopies(userPlants.size(), Map.of());
+        }
+    }
+
+    private HomeTaskResponse toTask(LocalDate lastDate, int intervalDays, boolean doneInRedis, LocalDate today) {
+        boolean completedToday = doneInRedis || today.equals(lastDate);
+        LocalDate nextDueDate = lastDate == null ? null : lastDate.plusDays(intervalDays);
+        boolean dueToday = !completedToday && lastDate != null
+                && ChronoUnit.DAYS.between(lastDate, today) >= intervalDays;
+        return HomeTaskResponse.builder()
+                .dueToday(dueToday)
+                .completedToday(completedToday)
+                .nextDueDate(nextDueDate)
+                .build();
+    }
+
+    private int countTasks(List<HomePlantResponse> plants, boolean due) {
+        int count = 0;
+        for (HomePlantResponse plant : plants) {
+            for (HomeTaskResponse task : List.of(plant.getWater(), plant.getPrune(), plant.getFertilize())) {
+                if (due ? task.isDueToday() : task.isCompletedToday()) count++;
+            }
+        }
+        return count;
+    }
+
+    private record CachedHome(HomeResponse response, long expiresAt) {
+    }
+}
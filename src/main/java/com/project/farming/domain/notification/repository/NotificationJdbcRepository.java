@@ -0,0 +1,43 @@
+package com.project.farming.domain.notification.repository;
+
+import com.project.farming.domain.user.entity.User;
+import com.project.farming.global.jdbc.JdbcBatchWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 대량 저장(JDBC 배치 INSERT)
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_NOTIFICATION = """
+            INSERT INTO notification (user_id, title, message, is_read, created_at)
+            VALUES (?, ?, ?, FALSE, ?)
+            """;
+
+    private final JdbcBatchWriter jdbcBatchWriter;
+
+    /**
+     * 여러 사용자에게 같은 내용의 읽지 않은 알림 저장
+     *
+     * @param userList 알림을 받을 사용자 목록
+     * @param title 알림 제목
+     * @param message 알림 내용
+     * @return 저장된 알림 수
+     */
+    public int saveAllForUsers(List<User> userList, String title, String message) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcBatchWriter.batchInsert(INSERT_NOTIFICATION, userList, (ps, user) -> {
+            ps.setLong(1, user.getUserId());
+            ps.setString(2, title);
+            ps.setString(3, message);
+            ps.setTimestamp(4, createdAt);
+        });
+    }
+}
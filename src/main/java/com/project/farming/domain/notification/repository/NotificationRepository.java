@@ -23,6 +23,9 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 특정 사용자의 읽지 않은 알림 개수 조회
     long countByUserAndIsReadFalse(User user);
 
+    // 특정 사용자 ID의 읽지 않은 알림 개수 조회 (사용자 엔티티 조회 없이 사용)
+    long countByUser_UserIdAndIsReadFalse(Long userId);
+
     // 특정 사용자의 모든 알림 삭제
     @Modifying
     @Transactional
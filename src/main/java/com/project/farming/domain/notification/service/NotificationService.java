@@ -5,6 +5,7 @@ import com.project.farming.global.fcm.FcmService;
 import com.project.farming.domain.notification.dto.NotificationRequestDto;
 import com.project.farming.domain.notification.dto.NotificationResponseDto;
 import com.project.farming.domain.notification.entity.Notification;
+import com.project.farming.domain.notification.repository.NotificationJdbcRepository;
 import com.project.farming.domain.notification.repository.NotificationRepository;
 import com.project.farming.domain.user.entity.User;
 import com.project.farming.domain.user.repository.UserRepository;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
     private final UserRepository userRepository;
     private final FcmService fcmService;
 
@@ -176,6 +178,7 @@ public class NotificationService {
     /**
      * NoticeService에서 사용
      * - 공지사항 알림을 각 사용자 별로 저장
+     * - 사용자 수만큼 행이 생기므로 JDBC 배치 INSERT로 저장
      *
      * @param title 저장할 공지사항 제목
      * @param content 저장할 공지사항 내용
@@ -187,15 +190,7 @@ public class NotificationService {
             log.error("FCM 토큰이 저장된 사용자가 존재하지 않습니다.");
             throw new UserNotFoundException("FCM 토큰이 저장된 사용자가 존재하지 않습니다.");
         }
-        List<Notification> notifications = userList.stream()
-                .map(user -> Notification.builder()
-                        .user(user)
-                        .title(title)
-                        .message(content)
-                        .isRead(false)
-                        .build())
-                .collect(Collectors.toList());
-        notificationRepository.saveAll(notifications);
+        notificationJdbcRepository.saveAllForUsers(userList, title, content);
     }
 
     /**
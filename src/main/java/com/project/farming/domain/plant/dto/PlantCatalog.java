@@ -0,0 +1,76 @@
+package com.project.farming.domain.plant.dto;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 식물 카탈로그 스냅샷(불변)
+ * - plant_info 전체를 메모리에 올려 두고 한글 이름, 영어 이름, ID로 조회
+ * - 변경 시에는 새 스냅샷을 만들어 통째로 교체하며, version으로 서버 간 최신 여부 비교
+ * - 이름은 DB 조회(MySQL 기본 collation)와 같게 대소문자/앞뒤 공백을 무시하고 비교
+ */
+public class PlantCatalog {
+
+    public static final String OTHER_PLANT_NAME = "기타"; // 사용자 입력 옵션
+
+    @Getter
+    private final long version;
+    @Getter
+    private final List<PlantCatalogEntry> plants; // 이름순
+    private final Map<Long, PlantCatalogEntry> plantsById;
+    private final Map<String, PlantCatalogEntry> plantsByName;
+    private final Map<String, PlantCatalogEntry> plantsByEnglishName;
+
+    public PlantCatalog(long version, List<PlantCatalogEntry> plants) {
+        Map<Long, PlantCatalogEntry> byId = new HashMap<>();
+        Map<String, PlantCatalogEntry> byName = new HashMap<>();
+        Map<String, PlantCatalogEntry> byEnglishName = new HashMap<>();
+        for (PlantCatalogEntry plant : plants) {
+            byId.put(plant.getPlantId(), plant);
+            if (plant.getPlantName() != null) byName.putIfAbsent(normalize(plant.getPlantName()), plant);
+            if (plant.getPlantEnglishName() != null) byEnglishName.putIfAbsent(normalize(plant.getPlantEnglishName()), plant);
+        }
+        this.version = version;
+        this.plants = List.copyOf(plants);
+        this.plantsById = Collections.unmodifiableMap(byId);
+        this.plantsByName = Collections.unmodifiableMap(byName);
+        this.plantsByEnglishName = Collections.unmodifiableMap(byEnglishName);
+    }
+
+    public Optional<PlantCatalogEntry> findById(Long plantId) {
+        return Optional.ofNullable(plantsById.get(plantId));
+    }
+
+    /**
+     * 식물 이름으로 조회
+     * - 한글 이름을 우선 조회하고, 없으면 영어 이름으로 조회
+     *
+     * @param name 식물 이름(한글, 영어)
+     * @return 조회한 식물 정보
+     */
+    public Optional<PlantCatalogEntry> findByName(String name) {
+        if (name == null) return Optional.empty();
+        String key = normalize(name);
+        PlantCatalogEntry plant = plantsByName.get(key);
+        return Optional.ofNullable(plant != null ? plant : plantsByEnglishName.get(key));
+    }
+
+    public boolean containsName(String name) {
+        return findByName(name).isPresent();
+    }
+
+    public Optional<PlantCatalogEntry> getOtherPlant() {
+        return Optional.ofNullable(plantsByName.get(normalize(OTHER_PLANT_NAME)));
+    }
+
+    public boolean isOtherPlant(Long plantId) {
+        return findById(plantId)
+                .map(plant -> OTHER_PLANT_NAME.equals(plant.getPlantName()))
+                .orElse(false);
+    }
+
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.farming.domain.plant.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 식물 카탈로그 스냅샷의 식물 정보(불변)
+ */
+@Getter
+@Builder
+public class PlantCatalogEntry {
+    private final Long plantId;
+    private final String plantName;
+    private final String plantEnglishName;
+    private final String species; // 식물 분류
+    private final String season;
+    private final String plantImageUrl;
+}
@@ -12,6 +12,9 @@ public interface PlantRepository extends JpaRepository<Plant, Long> {
     boolean existsByPlantName(String plantName);
     List<Plant> findAllByOrderByPlantNameAsc();
 
+    @Query("SELECT p FROM Plant p JOIN FETCH p.plantImageFile ORDER BY p.plantName ASC")
+    List<Plant> findAllWithImageFileOrderByPlantNameAsc();
+
     @Query(value = """
         SELECT * FROM plant_info
         WHERE plant_name LIKE :keyword OR plant_english_name LIKE :keyword
@@ -5,12 +5,11 @@ import com.project.farming.domain.plant.dto.PlantResponse;
 import com.project.farming.domain.plant.entity.Plant;
 import com.project.farming.domain.plant.repository.PlantRepository;
 import com.project.farming.domain.userplant.repository.UserPlantRepository;
-import com.project.farming.global.exception.ImageFileNotFoundException;
+import com.project.farming.domain.userplant.service.UserPlantSearchIndex;
 import com.project.farming.global.exception.PlantNotFoundException;
-import com.project.farming.global.image.entity.DefaultImages;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.ImageFile;
-import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import com.project.farming.global.image.service.ImageFileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +27,10 @@ public class PlantAdminService {
 
     private final PlantRepository plantRepository;
     private final ImageFileService imageFileService;
-    private final ImageFileRepository imageFileRepository;
+    private final DefaultImageRegistry defaultImageRegistry;
     private final UserPlantRepository userPlantRepository;
+    private final UserPlantSearchIndex userPlantSearchIndex;
+    private final PlantCatalogService plantCatalogService;
 
     /**
      * 새로운 식물 정보 등록
@@ -59,6 +60,7 @@ public class PlantAdminService {
             ImageFile imageFile = imageFileService.uploadImage(file, ImageDomainType.PLANT, plantId);
             savedPlant.updatePlantImage(imageFile);
         }
+        plantCatalogService.refreshAfterCommit();
     }
 
     /**
@@ -104,15 +106,16 @@ public class PlantAdminService {
         Plant plant = findPlantById(plantId);
         if (newFile != null && !newFile.isEmpty()) {
             // 새로운 이미지 파일이 첨부되어 있는 경우
-            ImageFile imageFile = imageFileService.updateImage(
-                    plant.getPlantImageFile().getImageFileId(), // 기존 이미지 파일
-                    newFile, ImageDomainType.PLANT, plantId);
+            ImageFile oldImageFile = plant.getPlantImageFile(); // 기존 이미지 파일
+            ImageFile imageFile = imageFileService.uploadImage(newFile, ImageDomainType.PLANT, plantId);
             plant.updatePlantImage(imageFile);
+            imageFileService.deleteImage(oldImageFile.getImageFileId()); // 다른 곳에서 사용 중이거나 기본 이미지면 삭제되지 않음
         }
         plant.updatePlantInfo(getOrDefault(request.getPlantName()),
                 getOrDefault(request.getPlantEnglishName()),
                 getOrDefault(request.getSpecies()), getOrDefault(request.getSeason()));
         plantRepository.save(plant);
+        plantCatalogService.refreshAfterCommit();
     }
 
     /**
@@ -140,6 +143,8 @@ public class PlantAdminService {
                 "해당 식물({})과 매핑된 사용자 식물 {}개의 식물 정보가 '기타'로 수정되었습니다.", plantId, updatedCount);
         plantRepository.delete(plant);
         imageFileService.deleteImage(plant.getPlantImageFile().getImageFileId()); // 기존 이미지 파일
+        plantCatalogService.refreshAfterCommit();
+        userPlantSearchIndex.evictAll(); // 영향받은 사용자를 모르므로 전체 제거
     }
 
     /**
@@ -148,11 +153,7 @@ public class PlantAdminService {
      * @return 식물 기본 이미지
      */
     private ImageFile getDefaultImageFile() {
-        return imageFileRepository.findByS3Key(DefaultImages.DEFAULT_PLANT_IMAGE)
-                .orElseThrow(() -> {
-                    log.error("기본 식물 이미지가 존재하지 않습니다.");
-                    return new ImageFileNotFoundException("기본 식물 이미지가 존재하지 않습니다.");
-                });
+        return defaultImageRegistry.getDefaultPlantImage();
     }
 
     /**
@@ -0,0 +1,150 @@
+package com.project.farming.domain.plant.service;
+
+import com.project.farming.domain.plant.dto.PlantCatalog;
+import com.project.farming.domain.plant.dto.PlantCatalogEntry;
+import com.project.farming.domain.plant.repository.PlantRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 식물 카탈로그 스냅샷 관리
+ * - plant_info(약 13개)를 불변 스냅샷으로 메모리에 두고 조회 시 DB 쿼리 없이 사용
+ * - 관리자가 식물 정보를 변경하면 커밋 이후 새 스냅샷으로 교체하고,
+ *   Redis Pub/Sub으로 새 버전을 알려 다른 서버도 스냅샷을 다시 불러오도록 함
+ * - 버전은 Redis 카운터로 발급해서 서버 간 비교 가능
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PlantCatalogService {
+
+    private static final String VERSION_KEY = "plant:catalog:version";
+    private static final String CHANNEL = "plant:catalog";
+
+    private final PlantRepository plantRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final AtomicReference<PlantCatalog> catalog = new AtomicReference<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onCatalogChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 현재 식물 카탈로그 스냅샷 반환
+     * - 처음 조회하는 경우 DB에서 불러옴
+     *
+     * @return 식물 카탈로그 스냅샷
+     */
+    public PlantCatalog getCatalog() {
+        PlantCatalog current = catalog.get();
+        return current != null ? current : reload(currentVersion());
+    }
+
+    /**
+     * 식물 정보 변경 후 호출
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 새 스냅샷으로 교체하고 다른 서버에 알림
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshAndPublish();
+                }
+            });
+        } else {
+            refreshAndPublish();
+        }
+    }
+
+    private void refreshAndPublish() {
+        long version = nextVersion();
+        reload(version);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+        } catch (Exception e) {
+            log.warn("식물 카탈로그 변경 알림 발송 실패(version={}): {}", version, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버의 변경 알림 수신
+     * - 현재 스냅샷보다 새로운 버전인 경우에만 다시 불러옴
+     */
+    private void onCatalogChanged(String message) {
+        try {
+            long version = Long.parseLong(message);
+            PlantCatalog current = catalog.get();
+            if (current == null || current.getVersion() < version) {
+                reload(version);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 식물 카탈로그 변경 알림입니다: {}", message);
+        }
+    }
+
+    /**
+     * DB에서 식물 정보를 불러와 새 스냅샷으로 교체
+     * - 이미 더 새로운 버전의 스냅샷이 있으면 교체하지 않음
+     *
+     * @param version 새 스냅샷의 버전
+     * @return 교체 후 스냅샷
+     */
+    private synchronized PlantCatalog reload(long version) {
+        PlantCatalog current = catalog.get();
+        if (current != null && current.getVersion() > version) {
+            return current;
+        }
+        List<PlantCatalogEntry> plants = plantRepository.findAllWithImageFileOrderByPlantNameAsc().stream()
+                .map(plant -> PlantCatalogEntry.builder()
+                        .plantId(plant.getPlantId())
+                        .plantName(plant.getPlantName())
+                        .plantEnglishName(plant.getPlantEnglishName())
+                        .species(plant.getSpecies())
+                        .season(plant.getSeason())
+                        .plantImageUrl(plant.getPlantImageFile().getImageUrl())
+                        .build())
+                .toList();
+        PlantCatalog next = new PlantCatalog(version, plants);
+        catalog.set(next);
+        log.info("식물 카탈로그 스냅샷 교체 (version={}, 식물 {}개)", version, plants.size());
+        return next;
+    }
+
+    private long currentVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (Exception e) {
+            log.warn("식물 카탈로그 버전 조회 실패: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    private long nextVersion() {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            if (version != null) return version;
+        } catch (Exception e) {
+            log.warn("식물 카탈로그 버전 발급 실패, 로컬 버전 사용: {}", e.getMessage());
+        }
+        PlantCatalog current = catalog.get();
+        return current == null ? 1L : current.getVersion() + 1;
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.farming.domain.plant.service;
 
+import com.project.farming.domain.plant.dto.PlantCatalogEntry;
 import com.project.farming.domain.plant.dto.PlantResponse;
 import com.project.farming.domain.plant.entity.Plant;
 import com.project.farming.domain.plant.repository.PlantRepository;
@@ -18,20 +19,28 @@ import java.util.stream.Collectors;
 public class PlantService {
 
     private final PlantRepository plantRepository;
+    private final PlantCatalogService plantCatalogService;
 
     /**
      * 전체 식물 목록 조회(이름순)
+     * - 식물 카탈로그 스냅샷에서 조회
      *
      * @return 각 식물 정보의 Response DTO 리스트
      */
-    @Transactional(readOnly = true)
     public List<PlantResponse> findAllPlants() {
-        List<Plant> foundPlants = plantRepository.findAllByOrderByPlantNameAsc();
+        List<PlantCatalogEntry> foundPlants = plantCatalogService.getCatalog().getPlants();
         if (foundPlants.isEmpty()) {
             log.info("등록된 식물이 없습니다.");
         }
         return foundPlants.stream()
-                .map(plant -> toPlantResponseBuilder(plant).build())
+                .map(plant -> PlantResponse.builder()
+                        .plantId(plant.getPlantId())
+                        .plantName(plant.getPlantName())
+                        .plantEnglishName(plant.getPlantEnglishName())
+                        .species(plant.getSpecies())
+                        .season(plant.getSeason())
+                        .plantImageUrl(plant.getPlantImageUrl())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -97,5 +106,6 @@ public class PlantService {
     @Transactional
     public void savePlants(List<Plant> plantList) {
         plantRepository.saveAll(plantList);
+        plantCatalogService.refreshAfterCommit();
     }
 }
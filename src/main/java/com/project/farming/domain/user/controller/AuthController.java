@@ -228,6 +228,21 @@ public class AuthController {
         return ResponseEntity.ok(updated);
     }
 
+    // 이미지 변경 (Presigned URL로 업로드한 이미지)
+    @Operation(summary = "프로필 이미지 변경 (직접 업로드)", description = "/images/upload-url로 발급받은 URL에 업로드한 이미지로 프로필 이미지를 변경합니다.")
+    @SecurityRequirement(name = "jwtAuth")
+    @PatchMapping("/me/profile-image")
+    public ResponseEntity<UserMyPageResponseDto> updateProfileImageByUploadedFile(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "업로드 URL 발급 시 받은 이미지 파일 ID", required = true)
+            @RequestParam Long imageFileId
+    ) {
+        Long userId = customUserDetails.getUser().getUserId();
+        UserMyPageResponseDto updated = authService.updateProfileImage(userId, imageFileId);
+        return ResponseEntity.ok(updated);
+    }
+
     // 프로필 이미지 삭제 (기본 이미지로 되돌리기)
     @Operation(summary = "프로필 이미지 삭제", description = "로그인한 사용자의 프로필 이미지를 기본 이미지로 되돌립니다.")
     @SecurityRequirement(name = "jwtAuth")
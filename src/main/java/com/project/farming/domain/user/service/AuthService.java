@@ -13,7 +13,7 @@ import com.project.farming.global.jwtToken.JwtTokenProvider;
 import com.project.farming.global.jwtToken.RefreshToken;
 import com.project.farming.global.jwtToken.RefreshTokenRepository;
 import com.project.farming.global.image.entity.ImageFile;
-import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import com.project.farming.global.image.service.ImageFileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,8 +44,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final ImageFileRepository imageFileRepository;
     private final ImageFileService imageFileService;
+    private final DefaultImageRegistry defaultImageRegistry;
     private final JavaMailSender mailSender;
 
     @Transactional
@@ -53,9 +53,8 @@ public class AuthService {
         if (userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
         }
-        // DefaultImages 클래스의 상수를 사용하여 s3Key로 엔티티를 조회합니다.
-        ImageFile defaultImageFile = imageFileRepository.findByS3Key(DefaultImages.DEFAULT_USER_IMAGE)
-                .orElseThrow(() -> new IllegalStateException("기본 사용자 이미지가 존재하지 않습니다."));
+        // 시작 시 조회해 둔 기본 이미지 ID로 프록시를 가져옵니다(s3Key 조회 없음).
+        ImageFile defaultImageFile = defaultImageRegistry.getDefaultUserImage();
 
         User newUser = User.builder()
                 .email(email)
@@ -211,14 +210,16 @@ public class AuthService {
 
         // 사용자와 연결된 프로필 이미지 파일 삭제 (선택 사항)
         // 사용자가 탈퇴 시 프로필 이미지를 S3에서도 삭제하려면 이 로직을 추가합니다.
-        if (user.getProfileImageFile() != null) {
-            imageFileService.deleteImage(user.getProfileImageFile().getImageFileId());
-        }
+        // (사용자를 먼저 삭제한 뒤 이미지 참조 해제)
+        ImageFile profileImageFile = user.getProfileImageFile();
 
         // 사용자가 작성한 다른 도메인(예: Diary, Plant)의 이미지도 함께 삭제하려면
         // ImageFileService.getImagesByDomainAndId(ImageDomainType.JOURNAL, userId) 등을 사용하여 처리해야 합니다.
         // 이는 복잡해질 수 있으므로, 보통 이미지를 S프트 삭제하거나 별도의 정기적인 클리너 작업을 통해 처리하기도 합니다.
-        userRepository.deleteById(userId);
+        userRepository.delete(user);
+        if (profileImageFile != null) {
+            imageFileService.deleteImage(profileImageFile.getImageFileId());
+        }
     }
 
 
@@ -265,16 +266,35 @@ public class AuthService {
         // ✅ 1. 새 이미지 업로드
         ImageFile newProfileImage = imageFileService.uploadImage(imageFile, ImageDomainType.USER, userId);
 
-        // ✅ 2. 기존 이미지 삭제 (기본 이미지가 아닐 경우)
-        if (user.getProfileImageFile() != null &&
-                !DefaultImages.isDefaultImage(user.getProfileImageFile().getS3Key())) {
-            imageFileService.deleteImage(user.getProfileImageFile().getImageFileId());
+        // ✅ 2. 유저 객체에 새로운 이미지 설정
+        ImageFile oldProfileImage = user.getProfileImageFile();
+        user.updateProfileImageFile(newProfileImage);
+
+        // ✅ 3. 기존 이미지 삭제 (기본 이미지가 아닐 경우, 다른 곳에서 사용 중이면 참조만 해제)
+        if (oldProfileImage != null && !DefaultImages.isDefaultImage(oldProfileImage.getS3Key())) {
+            imageFileService.deleteImage(oldProfileImage.getImageFileId());
         }
 
-        // ✅ 3. 유저 객체에 새로운 이미지 설정
+        // ✅ 4. 응답 DTO 반환
+        return convertToMyPageResponseDto(user);
+    }
+
+    /**
+     * Presigned URL로 S3에 직접 업로드된 이미지로 프로필 이미지 변경
+     */
+    @Transactional
+    public UserMyPageResponseDto updateProfileImage(Long userId, Long imageFileId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+
+        ImageFile oldProfileImage = user.getProfileImageFile();
+        ImageFile newProfileImage = imageFileService.attachUploadedImage(imageFileId, userId, ImageDomainType.USER, userId);
         user.updateProfileImageFile(newProfileImage);
 
-        // ✅ 4. 응답 DTO 반환
+        // 기존 이미지 삭제 (기본 이미지가 아닐 경우)
+        if (oldProfileImage != null && !defaultImageRegistry.isDefaultImage(oldProfileImage.getImageFileId())) {
+            imageFileService.deleteImage(oldProfileImage.getImageFileId());
+        }
         return convertToMyPageResponseDto(user);
     }
 
@@ -283,14 +303,15 @@ public class AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        ImageFile defaultImageFile = imageFileRepository.findByS3Key(DefaultImages.DEFAULT_USER_IMAGE)
-                .orElseThrow(() -> new IllegalStateException("기본 사용자 이미지가 존재하지 않습니다."));
+        ImageFile defaultImageFile = defaultImageRegistry.getDefaultUserImage();
 
         // 현재 프로필 이미지가 기본 이미지가 아닌 경우에만 삭제 로직 실행
         if (user.getProfileImageFile() != null &&
-                !user.getProfileImageFile().getS3Key().equals(DefaultImages.DEFAULT_USER_IMAGE)) {
+                !defaultImageRegistry.isDefaultImage(user.getProfileImageFile().getImageFileId())) {
 
+            // 기본 이미지로 바꾼 뒤 기존 이미지 삭제
             Long currentImageId = user.getProfileImageFile().getImageFileId();
+            user.updateProfileImageFile(defaultImageFile);
             imageFileService.deleteImage(currentImageId);
             log.info("사용자 ID {}의 기존 프로필 이미지가 삭제되었습니다. 이미지 ID: {}", userId, currentImageId);
         }
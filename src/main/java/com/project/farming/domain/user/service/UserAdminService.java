@@ -90,10 +90,10 @@ public class UserAdminService {
         User user = findUserById(userId);
         if (newFile != null && !newFile.isEmpty()) {
             // 새로운 이미지 파일이 첨부되어 있는 경우
-            ImageFile imageFile = imageFileService.updateImage(
-                    user.getProfileImageFile().getImageFileId(), // 기존 이미지 파일
-                    newFile, ImageDomainType.USER, userId);
+            ImageFile oldImageFile = user.getProfileImageFile(); // 기존 이미지 파일
+            ImageFile imageFile = imageFileService.uploadImage(newFile, ImageDomainType.USER, userId);
             user.updateProfileImageFile(imageFile);
+            imageFileService.deleteImage(oldImageFile.getImageFileId()); // 다른 곳에서 사용 중이거나 기본 이미지면 삭제되지 않음
         }
         user.updateEmail(request.getEmail());
         user.updateNickname(request.getNickname());
@@ -1,6 +1,11 @@
 package com.project.farming.domain.userplant.controller;
 
+import com.project.farming.domain.userplant.dto.CareCalendarResponse;
+import com.project.farming.domain.userplant.dto.UserPlantBulkRequest;
 import com.project.farming.domain.userplant.dto.UserPlantRequest;
+import com.project.farming.domain.userplant.dto.UserPlantTaskRequest;
+import com.project.farming.domain.userplant.dto.UserPlantTaskResponse;
+import com.project.farming.domain.userplant.service.CareCalendarService;
 import com.project.farming.domain.userplant.service.UserPlantService;
 import com.project.farming.domain.userplant.dto.UserPlantResponse;
 import com.project.farming.global.jwtToken.CustomUserDetails;
@@ -10,6 +15,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +26,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "UserPlant API", description = "사용자가 키우는 식물 관련 API")
@@ -27,6 +37,7 @@ import java.util.List;
 public class UserPlantController {
 
     private final UserPlantService userPlantService;
+    private final CareCalendarService careCalendarService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "사용자 식물 정보 등록",
@@ -48,6 +59,22 @@ public class UserPlantController {
                 .body(userPlantService.saveUserPlant(userId, request, file));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "사용자 식물 정보 일괄 등록",
+            description = """
+                    여러 사용자 식물의 정보를 한 번에 등록합니다.(최대 100개)
+                    이미지는 기본 이미지로 등록되며, 별명이 중복되거나 이미 등록된 별명이 있으면 전체가 등록되지 않습니다.
+                    등록된 식물의 일부 정보를 별명 순으로 반환합니다.
+                    """)
+    public ResponseEntity<List<UserPlantResponse>> createUserPlants(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Valid @RequestBody UserPlantBulkRequest request) {
+        Long userId = customUserDetails.getUser().getUserId();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(userPlantService.saveUserPlants(userId, request));
+    }
+
     @GetMapping
     @Operation(summary = "사용자 식물 목록 조회",
             description = """
@@ -68,18 +95,52 @@ public class UserPlantController {
     @Operation(summary = "사용자 식물 목록 검색",
             description = """
                     사용자 ID에 해당하는 사용자가 등록한 식물 중에서 입력한 키워드(식물 종류 또는 별명)를 포함하는
-                     모든 식물을 별명 순으로 조회합니다. 일부 정보만 반환합니다.
+                     식물을 별명 순으로 페이지 단위로 조회합니다. 초성 검색(예: ㅌㅁㅌ)도 가능합니다. 일부 정보만 반환합니다.
                      (userPlantId, plantName(식물 종류), plantNickname(식물 별명),
                       plantingPlace(심은 장소), isNotificationEnabled(알림 수신 여부)
                       IntervalDays(물 주기/가지치기/영양제 주기 간격), userPlantImageUrl(이미지 URL))
                     """
     )
-    public ResponseEntity<List<UserPlantResponse>> searchUserPlants(
+    public ResponseEntity<Page<UserPlantResponse>> searchUserPlants(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam String keyword,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Long userId = customUserDetails.getUser().getUserId();
+        return ResponseEntity.ok(userPlantService.findUserPlantsByKeyword(userId, keyword, pageable));
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "사용자 식물 관리 캘린더 조회",
+            description = """
+                    기간(from ~ to, 최대 366일) 동안 사용자의 모든 식물의 물 주기/가지치기/영양제 주기 예정일을
+                     마지막 작업일과 간격으로 계산하고, 같은 기간에 작성한 일지와 합쳐 날짜별로 반환합니다.
+                     예정 작업이나 일지가 있는 날짜만 반환합니다.
+                    """)
+    public ResponseEntity<CareCalendarResponse> getCareCalendar(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "시작 날짜(yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜(yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = customUserDetails.getUser().getUserId();
+        return ResponseEntity.ok(careCalendarService.findCareCalendar(userId, from, to));
+    }
+
+    @PostMapping("/tasks/complete")
+    @Operation(summary = "사용자 식물 작업 일괄 완료",
+            description = """
+                    선택한 여러 사용자 식물의 작업(WATER: 물 주기, PRUNE: 가지치기, FERTILIZE: 영양제 주기)을
+                     한 번에 완료 처리합니다. 마지막 작업일은 오늘로 변경됩니다.
+                     다른 사용자의 식물이나 존재하지 않는 식물이 포함되어 있으면 전체가 처리되지 않습니다.
+                    """)
+    public ResponseEntity<UserPlantTaskResponse> completeTasks(
             @Parameter(hidden = true)
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
-            @RequestParam String keyword) {
+            @Valid @RequestBody UserPlantTaskRequest request) {
         Long userId = customUserDetails.getUser().getUserId();
-        return ResponseEntity.ok(userPlantService.findUserPlantsByKeyword(userId, keyword));
+        return ResponseEntity.ok(userPlantService.completeTasks(userId, request));
     }
 
     @GetMapping("/{userPlantId}")
@@ -0,0 +1,41 @@
+package com.project.farming.domain.userplant.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class CareCalendarResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private List<CareCalendarDay> days; // 예정 작업 또는 일지가 있는 날짜만(날짜순)
+
+    @Getter
+    @Builder
+    public static class CareCalendarDay {
+        private LocalDate date;
+        private List<CareTask> tasks; // 예정된 관리 작업
+        private List<DiarySummary> diaries; // 작성한 일지
+    }
+
+    @Getter
+    @Builder
+    public static class CareTask {
+        private Long userPlantId;
+        private String plantNickname;
+        private String taskType; // WATER, PRUNE, FERTILIZE
+    }
+
+    @Getter
+    @Builder
+    public static class DiarySummary {
+        private Long diaryId;
+        private String title;
+        private boolean watered;
+        private boolean pruned;
+        private boolean fertilized;
+    }
+}
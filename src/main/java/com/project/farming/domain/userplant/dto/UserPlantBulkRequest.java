@@ -0,0 +1,18 @@
+package com.project.farming.domain.userplant.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UserPlantBulkRequest {
+
+    @NotEmpty(message = "등록할 사용자 식물 정보를 입력해주세요.")
+    @Size(max = 100, message = "한 번에 최대 100개의 사용자 식물을 등록할 수 있습니다.")
+    private List<@Valid UserPlantRequest> userPlants;
+}
@@ -0,0 +1,18 @@
+package com.project.farming.domain.userplant.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 관리 캘린더용 사용자 식물 Projection
+ * - 메모(notes), 이미지 없이 예정일 계산에 필요한 마지막 작업일과 간격만 조회
+ */
+public interface UserPlantCareSchedule {
+    Long getUserPlantId();
+    String getPlantNickname();
+    LocalDate getLastWateredDate();
+    int getWaterIntervalDays();
+    LocalDate getLastPrunedDate();
+    int getPruneIntervalDays();
+    LocalDate getLastFertilizedDate();
+    int getFertilizeIntervalDays();
+}
@@ -26,6 +26,8 @@ public class UserPlantRequest {
     private LocalDateTime plantedDate;
     private String notes;
 
+    private Long imageFileId; // Presigned URL로 업로드한 이미지 ID (file 대신 사용)
+
     @NotNull(message = "알림 수신 여부를 입력해주세요.")
     private Boolean isNotificationEnabled;
     
@@ -0,0 +1,18 @@
+package com.project.farming.domain.userplant.dto;
+
+/**
+ * 사용자 식물 목록/검색용 Projection
+ * - 엔티티 대신 목록에 필요한 컬럼과 이미지 URL만 한 번의 쿼리로 조회
+ * - 이미지 URL은 목록 썸네일(축소본이 없으면 원본)
+ */
+public interface UserPlantSummary {
+    Long getUserPlantId();
+    String getPlantName();
+    String getPlantNickname();
+    String getPlantingPlace();
+    boolean getIsNotificationEnabled();
+    int getWaterIntervalDays();
+    int getPruneIntervalDays();
+    int getFertilizeIntervalDays();
+    String getUserPlantImageUrl();
+}
@@ -0,0 +1,22 @@
+package com.project.farming.domain.userplant.dto;
+
+import com.project.farming.domain.userplant.entity.CareTaskType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UserPlantTaskRequest {
+
+    @NotEmpty(message = "작업을 완료한 사용자 식물을 선택해주세요.")
+    @Size(max = 500, message = "한 번에 최대 500개의 사용자 식물을 처리할 수 있습니다.")
+    private List<@NotNull Long> userPlantIds;
+
+    @NotNull(message = "작업 종류를 입력해주세요.(WATER, PRUNE, FERTILIZE)")
+    private CareTaskType taskType;
+}
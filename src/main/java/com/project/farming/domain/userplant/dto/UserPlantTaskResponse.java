@@ -0,0 +1,16 @@
+package com.project.farming.domain.userplant.dto;
+
+import com.project.farming.domain.userplant.entity.CareTaskType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class UserPlantTaskResponse {
+    private CareTaskType taskType;
+    private List<Long> userPlantIds; // 작업을 완료 처리한 사용자 식물 ID
+    private LocalDate completedDate;
+}
@@ -0,0 +1,18 @@
+package com.project.farming.domain.userplant.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 식물 관리 작업 종류
+ * - statusField: Redis 오늘 작업 상태(userplant:{id}:{yyyyMMdd}) 해시의 필드 이름
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CareTaskType {
+    WATER("watered"), // 물 주기
+    PRUNE("pruned"), // 가지치기
+    FERTILIZE("fertilized"); // 영양제 주기
+
+    private final String statusField;
+}
@@ -0,0 +1,63 @@
+package com.project.farming.domain.userplant.repository;
+
+import com.project.farming.domain.userplant.entity.UserPlant;
+import com.project.farming.global.jdbc.JdbcBatchWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 식물 대량 저장(JDBC 배치 INSERT)
+ */
+@RequiredArgsConstructor
+@Repository
+public class UserPlantJdbcRepository {
+
+    private static final String INSERT_USER_PLANT = """
+            INSERT INTO user_plants (user_id, plant_id, plant_name, plant_nickname, farm_id, planting_place,
+                                     planted_date, notes, is_notification_enabled,
+                                     water_interval_days, last_watered_date, watered,
+                                     prune_interval_days, last_pruned_date, pruned,
+                                     fertilize_interval_days, last_fertilized_date, fertilized,
+                                     user_plant_image_file_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcBatchWriter jdbcBatchWriter;
+
+    public int saveAll(List<UserPlant> userPlantList) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcBatchWriter.batchInsert(INSERT_USER_PLANT, userPlantList, (ps, userPlant) -> {
+            ps.setLong(1, userPlant.getUser().getUserId());
+            ps.setLong(2, userPlant.getPlant().getPlantId());
+            ps.setString(3, userPlant.getPlantName());
+            ps.setString(4, userPlant.getPlantNickname());
+            ps.setLong(5, userPlant.getFarm().getFarmId());
+            ps.setString(6, userPlant.getPlantingPlace());
+            ps.setTimestamp(7, userPlant.getPlantedDate() != null ? Timestamp.valueOf(userPlant.getPlantedDate()) : null);
+            ps.setString(8, userPlant.getNotes());
+            ps.setBoolean(9, userPlant.isNotificationEnabled());
+            ps.setInt(10, userPlant.getWaterIntervalDays());
+            ps.setDate(11, toDate(userPlant.getLastWateredDate()));
+            ps.setBoolean(12, userPlant.isWatered());
+            ps.setInt(13, userPlant.getPruneIntervalDays());
+            ps.setDate(14, toDate(userPlant.getLastPrunedDate()));
+            ps.setBoolean(15, userPlant.isPruned());
+            ps.setInt(16, userPlant.getFertilizeIntervalDays());
+            ps.setDate(17, toDate(userPlant.getLastFertilizedDate()));
+            ps.setBoolean(18, userPlant.isFertilized());
+            ps.setLong(19, userPlant.getUserPlantImageFile().getImageFileId());
+            ps.setTimestamp(20, now);
+            ps.setTimestamp(21, now);
+        });
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
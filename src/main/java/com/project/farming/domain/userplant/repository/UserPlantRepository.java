@@ -2,28 +2,65 @@ package com.project.farming.domain.userplant.repository;
 
 import com.project.farming.domain.farm.entity.Farm;
 import com.project.farming.domain.plant.entity.Plant;
+import com.project.farming.domain.userplant.dto.UserPlantCareSchedule;
+import com.project.farming.domain.userplant.dto.UserPlantSummary;
 import com.project.farming.domain.userplant.entity.UserPlant;
 import com.project.farming.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserPlantRepository extends JpaRepository<UserPlant, Long>  {
     boolean existsByUserAndPlantNickname(User user, String plantNickname);
-    List<UserPlant> findByUserOrderByPlantNicknameAsc(User user);
 
-    @Query(value = """
-        SELECT * FROM user_plants
-        WHERE user_id = :userId
-          AND (plant_name LIKE :keyword OR plant_nickname LIKE :keyword)
-        ORDER BY plant_nickname ASC
-        """, nativeQuery = true)
-    List<UserPlant> findByUserAndPlantContainingOrderByPlantNicknameAsc(
-            @Param("userId") Long userId, @Param("keyword") String keyword);
+    @Query("SELECT up.plantNickname FROM UserPlant up WHERE up.user.userId = :userId AND up.plantNickname IN :plantNicknames")
+    List<String> findPlantNicknamesByUserIdAndPlantNicknameIn(
+            @Param("userId") Long userId, @Param("plantNicknames") Collection<String> plantNicknames);
+
+    @Query("""
+        SELECT up.userPlantId AS userPlantId, up.plantName AS plantName,
+               up.plantNickname AS plantNickname, up.plantingPlace AS plantingPlace,
+               up.isNotificationEnabled AS isNotificationEnabled,
+               up.waterIntervalDays AS waterIntervalDays, up.pruneIntervalDays AS pruneIntervalDays,
+               up.fertilizeIntervalDays AS fertilizeIntervalDays,
+               COALESCE(img.smallImageUrl, img.imageUrl) AS userPlantImageUrl
+        FROM UserPlant up JOIN up.userPlantImageFile img
+        WHERE up.user.userId = :userId
+        ORDER BY up.plantNickname ASC
+        """)
+    List<UserPlantSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT up FROM UserPlant up JOIN FETCH up.userPlantImageFile
+        WHERE up.user.userId = :userId
+        ORDER BY up.plantNickname ASC
+        """)
+    List<UserPlant> findByUserIdWithImageFile(@Param("userId") Long userId);
+
+    @Query("""
+        SELECT up.userPlantId AS userPlantId, up.plantNickname AS plantNickname,
+               up.lastWateredDate AS lastWateredDate, up.waterIntervalDays AS waterIntervalDays,
+               up.lastPrunedDate AS lastPrunedDate, up.pruneIntervalDays AS pruneIntervalDays,
+               up.lastFertilizedDate AS lastFertilizedDate, up.fertilizeIntervalDays AS fertilizeIntervalDays
+        FROM UserPlant up
+        WHERE up.user.userId = :userId
+        ORDER BY up.plantNickname ASC
+        """)
+    // MySQL은 fetchSize가 Integer.MIN_VALUE일 때만 한 행씩 스트리밍(그 외에는 전체 결과를 메모리에 올림)
+    // 스트림을 닫기 전에는 같은 커넥션으로 다른 쿼리를 실행할 수 없음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<UserPlantCareSchedule> streamCareSchedulesByUserId(@Param("userId") Long userId);
 
     Optional<UserPlant> findByUserAndUserPlantId(User user, Long userPlantId);
 
@@ -40,6 +77,33 @@ public interface UserPlantRepository extends JpaRepository<UserPlant, Long>  {
     int reassignPlant(
             @Param("otherPlant") Plant otherPlant, @Param("oldPlant") Plant oldPlant);
 
+    @Modifying
+    @Query("""
+        UPDATE UserPlant up SET up.watered = true, up.lastWateredDate = :today, up.updatedAt = :now
+        WHERE up.user.userId = :userId AND up.userPlantId IN :userPlantIds
+        """)
+    int completeWatering(
+            @Param("userId") Long userId, @Param("userPlantIds") Collection<Long> userPlantIds,
+            @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE UserPlant up SET up.pruned = true, up.lastPrunedDate = :today, up.updatedAt = :now
+        WHERE up.user.userId = :userId AND up.userPlantId IN :userPlantIds
+        """)
+    int completePruning(
+            @Param("userId") Long userId, @Param("userPlantIds") Collection<Long> userPlantIds,
+            @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE UserPlant up SET up.fertilized = true, up.lastFertilizedDate = :today, up.updatedAt = :now
+        WHERE up.user.userId = :userId AND up.userPlantId IN :userPlantIds
+        """)
+    int completeFertilizing(
+            @Param("userId") Long userId, @Param("userPlantIds") Collection<Long> userPlantIds,
+            @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
     @Query("""
         SELECT up FROM UserPlant up
         WHERE up.isNotificationEnabled = true
@@ -0,0 +1,120 @@
+package com.project.farming.domain.userplant.service;
+
+import com.project.farming.domain.diary.dto.DiaryCalendarEntry;
+import com.project.farming.domain.diary.repository.DiaryRepository;
+import com.project.farming.domain.userplant.dto.CareCalendarResponse;
+import com.project.farming.domain.userplant.dto.CareCalendarResponse.CareCalendarDay;
+import com.project.farming.domain.userplant.dto.CareCalendarResponse.CareTask;
+import com.project.farming.domain.userplant.dto.CareCalendarResponse.DiarySummary;
+import com.project.farming.domain.userplant.dto.UserPlantCareSchedule;
+import com.project.farming.domain.userplant.entity.CareTaskType;
+import com.project.farming.domain.userplant.repository.UserPlantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CareCalendarService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final UserPlantRepository userPlantRepository;
+    private final DiaryRepository diaryRepository;
+
+    /**
+     * 관리 캘린더 조회
+     * - 각 사용자 식물의 마지막 작업일과 간격으로 기간 내 예정일(물 주기/가지치기/영양제 주기)을 계산
+     * - 사용자 식물은 한 번의 스트리밍 조회(MySQL 스트리밍 모드)로 순회하며, 메모/이미지는 조회하지 않음
+     * - 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 일지는 스트림을 닫은 뒤 조회
+     * - 같은 기간의 일지와 합쳐 날짜별로 반환
+     *
+     * @param userId 사용자 ID
+     * @param from 시작 날짜
+     * @param to 종료 날짜
+     * @return 날짜별 예정 작업과 일지의 Response DTO
+     */
+    @Transactional(readOnly = true)
+    public CareCalendarResponse findCareCalendar(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            log.error("잘못된 조회 기간입니다: {} ~ {}", from, to);
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            log.error("조회 기간이 너무 깁니다: {} ~ {}", from, to);
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        Map<LocalDate, DayBuilder> days = new TreeMap<>();
+        try (Stream<UserPlantCareSchedule> schedules = userPlantRepository.streamCareSchedulesByUserId(userId)) {
+            schedules.forEach(schedule -> {
+                addTasks(days, schedule, CareTaskType.WATER,
+                        schedule.getLastWateredDate(), schedule.getWaterIntervalDays(), from, to);
+                addTasks(days, schedule, CareTaskType.PRUNE,
+                        schedule.getLastPrunedDate(), schedule.getPruneIntervalDays(), from, to);
+                addTasks(days, schedule, CareTaskType.FERTILIZE,
+                        schedule.getLastFertilizedDate(), schedule.getFertilizeIntervalDays(), from, to);
+            });
+        }
+        for (DiaryCalendarEntry diary : diaryRepository.findCalendarEntries(userId, from, to)) {
+            days.computeIfAbsent(diary.getDiaryDate(), date -> new DayBuilder()).diaries.add(
+                    DiarySummary.builder()
+                            .diaryId(diary.getDiaryId())
+                            .title(diary.getTitle())
+                            .watered(diary.getWatered())
+                            .pruned(diary.getPruned())
+                            .fertilized(diary.getFertilized())
+                            .build());
+        }
+
+        return CareCalendarResponse.builder()
+                .from(from)
+                .to(to)
+                .days(days.entrySet().stream()
+                        .map(entry -> CareCalendarDay.builder()
+                                .date(entry.getKey())
+                                .tasks(entry.getValue().tasks)
+                                .diaries(entry.getValue().diaries)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 기간 내 작업 예정일 추가
+     * - 예정일: 마지막 작업일 + 간격, 이후 간격마다 반복
+     * - 마지막 작업일이 없으면 기준이 없으므로 추가하지 않음
+     */
+    private void addTasks(Map<LocalDate, DayBuilder> days, UserPlantCareSchedule schedule, CareTaskType taskType,
+                          LocalDate lastDate, int intervalDays, LocalDate from, LocalDate to) {
+        if (lastDate == null || intervalDays <= 0) return;
+        LocalDate due = lastDate.plusDays(intervalDays);
+        if (due.isBefore(from)) {
+            long skip = (ChronoUnit.DAYS.between(due, from) + intervalDays - 1) / intervalDays;
+            due = due.plusDays(skip * intervalDays);
+        }
+        CareTask task = CareTask.builder()
+                .userPlantId(schedule.getUserPlantId())
+                .plantNickname(schedule.getPlantNickname())
+                .taskType(taskType.name())
+                .build();
+        for (; !due.isAfter(to); due = due.plusDays(intervalDays)) {
+            days.computeIfAbsent(due, date -> new DayBuilder()).tasks.add(task);
+        }
+    }
+
+    private static class DayBuilder {
+        private final List<CareTask> tasks = new ArrayList<>();
+        private final List<DiarySummary> diaries = new ArrayList<>();
+    }
+}
@@ -1,44 +1,76 @@
 package com.project.farming.domain.userplant.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * 사용자 식물의 오늘 작업 상태(userplant:{id}:{yyyyMMdd} 해시) 기록
+ * - 여러 식물의 HSET + EXPIREAT(오늘 자정)을 Lua 스크립트 한 번으로 실행해서 Redis 왕복을 1회로 줄임
+ */
 @Service
 @RequiredArgsConstructor
 public class UserPlantDailyStatusRedisService {
 
+    // KEYS: 식물별 상태 키, ARGV[1]: 만료 시각(epoch seconds), ARGV[2..]: 완료로 기록할 필드
+    private static final RedisScript<Long> MARK_COMPLETED_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                for i = 2, #ARGV do
+                    redis.call('HSET', key, ARGV[i], 'true')
+                end
+                redis.call('EXPIREAT', key, ARGV[1])
+            end
+            return #KEYS
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
-    public void updateStatusOnDiaryWrite(Long userPlantId, boolean watered, boolean pruned, boolean fertilized) {
-        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE); // 20250714
-        String key = "userplant:" + userPlantId + ":" + today;
+    /**
+     * 일지 작성/수정 시 일지에 연결된 식물들의 오늘 작업 상태 기록
+     *
+     * @param userPlantIds 일지에 연결된 사용자 식물 ID 목록
+     */
+    public void updateStatusOnDiaryWrite(Collection<Long> userPlantIds, boolean watered, boolean pruned, boolean fertilized) {
+        List<String> statusFields = new ArrayList<>(3);
+        if (watered) statusFields.add("watered");
+        if (pruned) statusFields.add("pruned");
+        if (fertilized) statusFields.add("fertilized");
+        markCompleted(userPlantIds, statusFields);
+    }
 
-        BoundHashOperations<String, String, String> hashOps = redisTemplate.boundHashOps(key);
+    /**
+     * 여러 사용자 식물의 오늘 작업 상태를 한 번에 완료로 기록
+     *
+     * @param userPlantIds 사용자 식물 ID 목록
+     * @param statusField 완료로 기록할 필드(watered, pruned, fertilized)
+     */
+    public void markCompleted(Collection<Long> userPlantIds, String statusField) {
+        markCompleted(userPlantIds, List.of(statusField));
+    }
 
-        if (watered) {
-            hashOps.put("watered", "true");
-        }
-        if (pruned) {
-            hashOps.put("pruned", "true");
-        }
-        if (fertilized) {
-            hashOps.put("fertilized", "true");
-        }
+    private void markCompleted(Collection<Long> userPlantIds, List<String> statusFields) {
+        if (userPlantIds.isEmpty() || statusFields.isEmpty()) return;
+        LocalDate today = LocalDate.now();
+        String date = today.format(DateTimeFormatter.BASIC_ISO_DATE); // 20250714
+        long midnight = today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
 
-        // TTL 설정 (오늘 자정까지 유지, 없으면 설정)
-        Long ttl = redisTemplate.getExpire(key);
-        if (ttl == null || ttl == -1) {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime midnight = now.toLocalDate().atStartOfDay().plusDays(1);
-            long secondsUntilMidnight = Duration.between(now, midnight).getSeconds();
-            redisTemplate.expire(key, Duration.ofSeconds(secondsUntilMidnight));
+        List<String> keys = userPlantIds.stream()
+                .map(userPlantId -> "userplant:" + userPlantId + ":" + date)
+                .toList();
+        Object[] args = new Object[statusFields.size() + 1];
+        args[0] = String.valueOf(midnight);
+        for (int i = 0; i < statusFields.size(); i++) {
+            args[i + 1] = statusFields.get(i);
         }
+        redisTemplate.execute(MARK_COMPLETED_SCRIPT, keys, args);
     }
 }
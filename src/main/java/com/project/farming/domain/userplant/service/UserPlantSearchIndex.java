@@ -0,0 +1,200 @@
+package com.project.farming.domain.userplant.service;
+
+import com.project.farming.domain.userplant.dto.UserPlantSummary;
+import com.project.farming.domain.userplant.repository.UserPlantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 식물 검색 인덱스
+ * - 사용자의 식물 목록(별명순)을 메모리에 두고 검색어 입력 시 DB 쿼리 없이 검색
+ * - 식물 종류/별명의 부분 일치와 초성 검색(예: "ㅌㅁㅌ" -> "토마토", "토ㅁ" -> "토마토") 지원
+ * - 사용자 식물이 등록/수정/삭제되면 커밋 이후 해당 사용자의 인덱스를 제거하고,
+ *   다른 서버의 변경은 일정 시간(TTL)이 지나면 다시 불러와서 반영
+ * - 인덱스 제거는 사용자별 보관 객체(세대)를 통째로 버리는 방식이라, 제거 전에 시작된 조회가 늦게 저장한
+ *   인덱스는 버려진 객체에만 들어가고 새 세대에는 남지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserPlantSearchIndex {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private final UserPlantRepository userPlantRepository;
+
+    @Value("${user-plant.search.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // 사용자 ID -> 현재 세대의 인덱스 보관 객체(전체 제거 시 맵을 새로 교체)
+    private volatile Map<Long, IndexHolder> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 식물 검색(별명순)
+     *
+     * @param userId 사용자 ID
+     * @param keyword 검색어(식물 종류 또는 별명, 초성 가능)
+     * @param pageable 페이지 정보(정렬은 별명순 고정)
+     * @return 검색된 사용자 식물 Projection 페이지
+     */
+    public Page<UserPlantSummary> search(Long userId, String keyword, Pageable pageable) {
+        String normalized = normalize(keyword);
+        List<Entry> entries = getIndex(userId).entries;
+        List<UserPlantSummary> matched = normalized.isEmpty()
+                ? entries.stream().map(Entry::summary).toList()
+                : entries.stream()
+                        .filter(entry -> entry.matches(normalized))
+                        .map(Entry::summary)
+                        .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        return new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+    }
+
+    /**
+     * 사용자의 검색 인덱스 제거
+     * - 사용자 식물이 등록/수정/삭제된 경우 호출
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 제거
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexes.remove(userId);
+                }
+            });
+        } else {
+            indexes.remove(userId);
+        }
+    }
+
+    /**
+     * 모든 사용자의 검색 인덱스 제거
+     * - 여러 사용자의 식물을 한 번에 변경한 경우(관리자의 식물/텃밭 삭제 등) 호출
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 제거
+     */
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexes = new ConcurrentHashMap<>();
+                }
+            });
+        } else {
+            indexes = new ConcurrentHashMap<>();
+        }
+    }
+
+    private UserIndex getIndex(Long userId) {
+        long now = System.currentTimeMillis();
+        Map<Long, IndexHolder> current = indexes;
+        if (current.size() >= MAX_CACHED_USERS) {
+            current.clear();
+        }
+        // 조회 전에 현재 세대의 보관 객체를 잡아 두고 결과도 그 객체에만 저장
+        IndexHolder holder = current.computeIfAbsent(userId, id -> new IndexHolder());
+        UserIndex index = holder.index;
+        if (index != null && index.expiresAt > now) {
+            return index;
+        }
+        List<Entry> entries = userPlantRepository.findSummariesByUserId(userId).stream()
+                .map(Entry::of)
+                .toList();
+        UserIndex loaded = new UserIndex(entries, now + ttlSeconds * 1000);
+        holder.index = loaded;
+        log.debug("사용자 {}의 식물 검색 인덱스 생성 (식물 {}개)", userId, entries.size());
+        return loaded;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절이면 초성, 아니면 그대로 반환
+     */
+    private static char choseongOf(char c) {
+        if (c >= '가' && c <= '힣') {
+            return CHOSEONG[(c - '가') / (21 * 28)];
+        }
+        return c;
+    }
+
+    private static boolean isChoseong(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 검색어가 대상 문자열의 연속된 부분과 일치하는지 확인
+     * - 검색어의 자음(ㄱ~ㅎ)은 대상 음절의 초성과 비교
+     */
+    private static boolean containsWithChoseong(String text, char[] textChoseong, String keyword) {
+        int last = text.length() - keyword.length();
+        for (int start = 0; start <= last; start++) {
+            int i = 0;
+            while (i < keyword.length()) {
+                char k = keyword.charAt(i);
+                char t = text.charAt(start + i);
+                if (k != t && !(isChoseong(k) && textChoseong[start + i] == k)) break;
+                i++;
+            }
+            if (i == keyword.length()) return true;
+        }
+        return false;
+    }
+
+    private record UserIndex(List<Entry> entries, long expiresAt) {
+    }
+
+    private static class IndexHolder {
+        private volatile UserIndex index;
+    }
+
+    /**
+     * 검색 대상 사용자 식물 한 개
+     * - 정규화한 식물 종류/별명과 각 글자의 초성을 미리 계산해 둠
+     */
+    private record Entry(UserPlantSummary summary,
+                         String nickname, char[] nicknameChoseong,
+                         String plantName, char[] plantNameChoseong) {
+
+        static Entry of(UserPlantSummary summary) {
+            String nickname = normalize(summary.getPlantNickname());
+            String plantName = normalize(summary.getPlantName());
+            return new Entry(summary, nickname, toChoseong(nickname), plantName, toChoseong(plantName));
+        }
+
+        boolean matches(String keyword) {
+            return containsWithChoseong(nickname, nicknameChoseong, keyword)
+                    || containsWithChoseong(plantName, plantNameChoseong, keyword);
+        }
+
+        private static char[] toChoseong(String text) {
+            char[] result = new char[text.length()];
+            for (int i = 0; i < text.length(); i++) {
+                result[i] = choseongOf(text.charAt(i));
+            }
+            return result;
+        }
+    }
+}
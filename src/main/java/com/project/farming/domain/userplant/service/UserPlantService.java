@@ -2,28 +2,45 @@ package com.project.farming.domain.userplant.service;
 
 import com.project.farming.domain.farm.entity.Farm;
 import com.project.farming.domain.farm.repository.FarmRepository;
+import com.project.farming.domain.userplant.dto.UserPlantBulkRequest;
 import com.project.farming.domain.userplant.dto.UserPlantRequest;
 import com.project.farming.domain.userplant.dto.UserPlantResponse;
+import com.project.farming.domain.userplant.dto.UserPlantSummary;
+import com.project.farming.domain.userplant.dto.UserPlantTaskRequest;
+import com.project.farming.domain.userplant.dto.UserPlantTaskResponse;
+import com.project.farming.domain.plant.dto.PlantCatalog;
+import com.project.farming.domain.plant.dto.PlantCatalogEntry;
 import com.project.farming.domain.plant.entity.Plant;
 import com.project.farming.domain.userplant.entity.UserPlant;
 import com.project.farming.domain.plant.repository.PlantRepository;
+import com.project.farming.domain.plant.service.PlantCatalogService;
+import com.project.farming.domain.userplant.repository.UserPlantJdbcRepository;
 import com.project.farming.domain.userplant.repository.UserPlantRepository;
 import com.project.farming.domain.user.entity.User;
 import com.project.farming.domain.user.repository.UserRepository;
 import com.project.farming.global.exception.*;
-import com.project.farming.global.image.entity.DefaultImages;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.ImageFile;
-import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import com.project.farming.global.image.service.ImageFileService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,9 +51,13 @@ public class UserPlantService {
     private final UserPlantRepository userPlantRepository;
     private final UserRepository userRepository;
     private final PlantRepository plantRepository;
+    private final PlantCatalogService plantCatalogService;
     private final FarmRepository farmRepository;
     private final ImageFileService imageFileService;
-    private final ImageFileRepository imageFileRepository;
+    private final DefaultImageRegistry defaultImageRegistry;
+    private final UserPlantSearchIndex userPlantSearchIndex;
+    private final UserPlantJdbcRepository userPlantJdbcRepository;
+    private final UserPlantDailyStatusRedisService userPlantDailyStatusRedisService;
 
     /**
      * 사용자 식물 정보 등록
@@ -52,15 +73,14 @@ public class UserPlantService {
         if (userPlantRepository.existsByUserAndPlantNickname(user, request.getPlantNickname())) {
             throw new IllegalArgumentException("이미 등록된 사용자 식물입니다: " + request.getPlantNickname());
         }
-        Plant plant = findPlantByPlantName(request.getPlantName());
+        PlantCatalogEntry plant = findPlantByPlantName(request.getPlantName());
         String plantName = getPlantName(plant.getPlantName(), request.getPlantName());
         Farm farm = findFarmByGardenUniqueId(request.getGardenUniqueId());
         String plantingPlace = getPlantingPlace(farm.getFarmName(), farm.getLotNumberAddress(), request.getPlantingPlace());
-        ImageFile defaultImageFile = imageFileRepository.findByS3Key(DefaultImages.DEFAULT_PLANT_IMAGE)
-                .orElseThrow(() -> new ImageFileNotFoundException("기본 식물 이미지가 존재하지 않습니다."));
+        ImageFile defaultImageFile = defaultImageRegistry.getDefaultPlantImage();
         UserPlant newUserPlant = UserPlant.builder()
                 .user(user)
-                .plant(plant)
+                .plant(plantRepository.getReferenceById(plant.getPlantId()))
                 .plantName(plantName)
                 .plantNickname(request.getPlantNickname())
                 .farm(farm)
@@ -78,16 +98,91 @@ public class UserPlantService {
                 .build();
         newUserPlant.updateUserPlantStatus(request.getWatered(), request.getPruned(), request.getFertilized());
         UserPlant savedUserPlant = userPlantRepository.save(newUserPlant);
+        userPlantSearchIndex.evict(userId);
         Long userPlantId = savedUserPlant.getUserPlantId();
 
         if (file != null && !file.isEmpty()) {
             // 이미지 파일이 첨부되어 있는 경우
             ImageFile imageFile = imageFileService.uploadImage(file, ImageDomainType.USERPLANT, userPlantId);
             savedUserPlant.updateUserPlantImage(imageFile);
+        } else if (request.getImageFileId() != null) {
+            // Presigned URL로 S3에 직접 업로드된 이미지 연결
+            ImageFile imageFile = imageFileService.attachUploadedImage(
+                    request.getImageFileId(), userId, ImageDomainType.USERPLANT, userPlantId);
+            savedUserPlant.updateUserPlantImage(imageFile);
         }
         return toUserPlantResponseBuilder(newUserPlant, true, false).build();
     }
 
+    /**
+     * 사용자 식물 정보 일괄 등록
+     * - 사용자, 식물, 텃밭, 기본 이미지를 한 번씩만 조회
+     * - 별명 중복은 IN 쿼리 한 번으로 확인하고, JDBC 배치 INSERT로 한 번에 저장
+     * - 이미지는 기본 이미지로 등록(이후 수정 API로 변경)
+     *
+     * @param userId 사용자 ID
+     * @param request 등록할 사용자 식물 정보 목록
+     * @return 저장된 사용자 식물 정보의 Response DTO 리스트(별명순, 일부 정보만 반환)
+     */
+    @Transactional
+    public List<UserPlantResponse> saveUserPlants(Long userId, UserPlantBulkRequest request) {
+        User user = findUserById(userId);
+        List<UserPlantRequest> requests = request.getUserPlants();
+        Set<String> nicknames = new HashSet<>();
+        for (UserPlantRequest userPlantRequest : requests) {
+            if (!nicknames.add(userPlantRequest.getPlantNickname())) {
+                throw new IllegalArgumentException("중복된 별명이 있습니다: " + userPlantRequest.getPlantNickname());
+            }
+        }
+        List<String> existingNicknames = userPlantRepository.findPlantNicknamesByUserIdAndPlantNicknameIn(userId, nicknames);
+        if (!existingNicknames.isEmpty()) {
+            throw new IllegalArgumentException("이미 등록된 사용자 식물입니다: " + String.join(", ", existingNicknames));
+        }
+
+        Map<Integer, Farm> farms = farmRepository.findByGardenUniqueIdIn(requests.stream()
+                        .map(UserPlantRequest::getGardenUniqueId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Farm::getGardenUniqueId, farm -> farm));
+        Farm otherFarm = null;
+        ImageFile defaultImageFile = defaultImageRegistry.getDefaultPlantImage();
+        List<UserPlant> newUserPlants = new ArrayList<>(requests.size());
+        for (UserPlantRequest userPlantRequest : requests) {
+            PlantCatalogEntry plant = findPlantByPlantName(userPlantRequest.getPlantName());
+            Farm farm = farms.get(userPlantRequest.getGardenUniqueId());
+            if (farm == null) {
+                if (otherFarm == null) otherFarm = getOtherFarm();
+                farm = otherFarm;
+            }
+            UserPlant newUserPlant = UserPlant.builder()
+                    .user(user)
+                    .plant(plantRepository.getReferenceById(plant.getPlantId()))
+                    .plantName(getPlantName(plant.getPlantName(), userPlantRequest.getPlantName()))
+                    .plantNickname(userPlantRequest.getPlantNickname())
+                    .farm(farm)
+                    .plantingPlace(getPlantingPlace(
+                            farm.getFarmName(), farm.getLotNumberAddress(), userPlantRequest.getPlantingPlace()))
+                    .plantedDate(userPlantRequest.getPlantedDate())
+                    .notes(userPlantRequest.getNotes())
+                    .isNotificationEnabled(userPlantRequest.getIsNotificationEnabled())
+                    .waterIntervalDays(userPlantRequest.getWaterIntervalDays())
+                    .pruneIntervalDays(userPlantRequest.getPruneIntervalDays())
+                    .fertilizeIntervalDays(userPlantRequest.getFertilizeIntervalDays())
+                    .userPlantImageFile(defaultImageFile)
+                    .build();
+            newUserPlant.updateUserPlantStatus(
+                    userPlantRequest.getWatered(), userPlantRequest.getPruned(), userPlantRequest.getFertilized());
+            newUserPlants.add(newUserPlant);
+        }
+        userPlantJdbcRepository.saveAll(newUserPlants);
+        userPlantSearchIndex.evict(userId);
+
+        return userPlantRepository.findSummariesByUserId(userId).stream()
+                .filter(userPlant -> nicknames.contains(userPlant.getPlantNickname()))
+                .map(this::toUserPlantResponse)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 사용자 식물 목록 조회(별명순)
      * - 일부 정보만 반환
@@ -97,31 +192,29 @@ public class UserPlantService {
      */
     @Transactional(readOnly = true)
     public List<UserPlantResponse> findAllUserPlants(Long userId) {
-        User user = findUserById(userId);
-        List<UserPlant> foundUserPlants = userPlantRepository.findByUserOrderByPlantNicknameAsc(user);
+        List<UserPlantSummary> foundUserPlants = userPlantRepository.findSummariesByUserId(userId);
         if (foundUserPlants.isEmpty()) {
             throw new UserPlantNotFoundException("등록된 사용자 식물이 없습니다.");
         }
         return foundUserPlants.stream()
-                .map(userPlant -> toUserPlantResponseBuilder(userPlant, false, false).build())
+                .map(this::toUserPlantResponse)
                 .collect(Collectors.toList());
     }
 
     /**
      * 사용자 식물 목록 검색(별명순)
      * - 사용자 식물의 종류(Plant) 또는 별명으로 검색(통합)
+     * - 초성 검색 가능(예: "ㅌㅁㅌ")
      * - 일부 정보만 반환
      *
      * @param userId 사용자 ID
-     * @param keyword 검색어(사용자 식물 별명)
-     * @return 검색된 사용자 식물 정보의 Response DTO 리스트
+     * @param keyword 검색어(사용자 식물 종류 또는 별명)
+     * @param pageable 페이지 정보
+     * @return 검색된 사용자 식물 정보의 Response DTO 페이지
      */
-    @Transactional(readOnly = true)
-    public List<UserPlantResponse> findUserPlantsByKeyword(Long userId, String keyword) {
-        List<UserPlant> foundUserPlants = userPlantRepository.findByUserAndPlantContainingOrderByPlantNicknameAsc(userId, "%"+keyword+"%");
-        return foundUserPlants.stream()
-                .map(userPlant -> toUserPlantResponseBuilder(userPlant, false, false).build())
-                .collect(Collectors.toList());
+    public Page<UserPlantResponse> findUserPlantsByKeyword(Long userId, String keyword, Pageable pageable) {
+        return userPlantSearchIndex.search(userId, keyword, pageable)
+                .map(this::toUserPlantResponse);
     }
 
     /**
@@ -156,12 +249,18 @@ public class UserPlantService {
         UserPlant userPlant = findUserPlantByUserAndUserPlantId(user, userPlantId);
         if (newFile != null && !newFile.isEmpty()) {
             // 새로운 이미지 파일이 첨부되어 있는 경우
-            ImageFile imageFile = imageFileService.updateImage(
-                    userPlant.getUserPlantImageFile().getImageFileId(), // 기존 이미지 파일
-                    newFile, ImageDomainType.USERPLANT, userPlantId);
+            ImageFile oldImageFile = userPlant.getUserPlantImageFile(); // 기존 이미지 파일
+            ImageFile imageFile = imageFileService.uploadImage(newFile, ImageDomainType.USERPLANT, userPlantId);
+            userPlant.updateUserPlantImage(imageFile);
+            imageFileService.deleteImage(oldImageFile.getImageFileId()); // 다른 곳에서 사용 중이거나 기본 이미지면 삭제되지 않음
+        } else if (request.getImageFileId() != null) {
+            ImageFile oldImageFile = userPlant.getUserPlantImageFile();
+            ImageFile imageFile = imageFileService.attachUploadedImage(
+                    request.getImageFileId(), userId, ImageDomainType.USERPLANT, userPlantId);
             userPlant.updateUserPlantImage(imageFile);
+            imageFileService.deleteImage(oldImageFile.getImageFileId()); // 기본 이미지는 삭제되지 않음
         }
-        if (isOtherPlant(userPlant.getPlant().getPlantName(), request.getPlantName())) {
+        if (isOtherPlant(userPlant.getPlant().getPlantId(), request.getPlantName())) {
             // 사용자 입력 식물인 경우 수정
             if (!Objects.equals(request.getPlantName(), userPlant.getPlantName())) {
                 userPlant.updatePlantName(request.getPlantName());
@@ -176,6 +275,7 @@ public class UserPlantService {
                 request.getWaterIntervalDays(), request.getPruneIntervalDays(), request.getFertilizeIntervalDays());
         userPlant.updateUserPlantStatus(request.getWatered(), request.getPruned(), request.getFertilized());
         UserPlant updatedUserPlant = userPlantRepository.save(userPlant);
+        userPlantSearchIndex.evict(userId);
         return toUserPlantResponseBuilder(updatedUserPlant, true, false).build();
     }
 
@@ -190,9 +290,53 @@ public class UserPlantService {
         User user = findUserById(userId);
         UserPlant userPlant = findUserPlantByUserAndUserPlantId(user, userPlantId);
         userPlantRepository.delete(userPlant);
+        userPlantSearchIndex.evict(userId);
         imageFileService.deleteImage(userPlant.getUserPlantImageFile().getImageFileId()); // 기존 이미지 파일
     }
 
+    /**
+     * 여러 사용자 식물의 작업 일괄 완료 처리
+     * - 사용자 소유 여부를 조건으로 한 번의 UPDATE로 완료 여부와 마지막 작업일을 변경
+     * - 커밋 이후 Redis 오늘 작업 상태를 파이프라인 한 번으로 기록
+     *
+     * @param userId 사용자 ID
+     * @param request 완료할 사용자 식물 ID 목록과 작업 종류
+     * @return 완료 처리 결과 Response DTO
+     */
+    @Transactional
+    public UserPlantTaskResponse completeTasks(Long userId, UserPlantTaskRequest request) {
+        List<Long> userPlantIds = request.getUserPlantIds().stream().distinct().toList();
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = switch (request.getTaskType()) {
+            case WATER -> userPlantRepository.completeWatering(userId, userPlantIds, today, now);
+            case PRUNE -> userPlantRepository.completePruning(userId, userPlantIds, today, now);
+            case FERTILIZE -> userPlantRepository.completeFertilizing(userId, userPlantIds, today, now);
+        };
+        if (updated != userPlantIds.size()) {
+            log.error("존재하지 않거나 다른 사용자의 식물이 포함되어 있습니다: userId={}, userPlantIds={}", userId, userPlantIds);
+            throw new UserPlantNotFoundException("존재하지 않는 사용자 식물이 포함되어 있습니다.");
+        }
+        userPlantSearchIndex.evict(userId);
+
+        String statusField = request.getTaskType().getStatusField();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    userPlantDailyStatusRedisService.markCompleted(userPlantIds, statusField);
+                } catch (Exception e) {
+                    log.warn("오늘 작업 상태 기록 실패 (userId={}, {}): {}", userId, statusField, e.getMessage());
+                }
+            }
+        });
+        return UserPlantTaskResponse.builder()
+                .taskType(request.getTaskType())
+                .userPlantIds(userPlantIds)
+                .completedDate(today)
+                .build();
+    }
+
     /**
      * Response DTO로 변환
      * - 사용자 식물 리스트를 반환하는 경우에는 일부 정보만 반환
@@ -235,6 +379,27 @@ public class UserPlantService {
         return builder;
     }
 
+    /**
+     * 목록 Projection을 Response DTO로 변환
+     * - 목록/검색에서 반환하는 일부 정보만 포함
+     *
+     * @param userPlant 사용자 식물 목록 Projection
+     * @return 사용자 식물 정보의 Response DTO
+     */
+    private UserPlantResponse toUserPlantResponse(UserPlantSummary userPlant) {
+        return UserPlantResponse.builder()
+                .userPlantId(userPlant.getUserPlantId())
+                .plantName(userPlant.getPlantName())
+                .plantNickname(userPlant.getPlantNickname())
+                .plantingPlace(userPlant.getPlantingPlace())
+                .isNotificationEnabled(userPlant.getIsNotificationEnabled())
+                .waterIntervalDays(userPlant.getWaterIntervalDays())
+                .pruneIntervalDays(userPlant.getPruneIntervalDays())
+                .fertilizeIntervalDays(userPlant.getFertilizeIntervalDays())
+                .userPlantImageUrl(userPlant.getUserPlantImageUrl())
+                .build();
+    }
+
     /**
      * ID로 사용자 조회
      *
@@ -260,13 +425,15 @@ public class UserPlantService {
 
     /**
      * 식물 이름으로 식물(Plant) 정보 조회
+     * - 식물 카탈로그 스냅샷에서 조회하고, 없으면 '기타' 반환
      *
      * @param plantName 조회할 식물의 이름(한글, 영어)
      * @return 조회한 식물(Plant) 정보
      */
-    private Plant findPlantByPlantName(String plantName) {
-        return plantRepository.findByPlantName(plantName)
-                .orElseGet(() -> plantRepository.getOtherPlant("기타")
+    private PlantCatalogEntry findPlantByPlantName(String plantName) {
+        PlantCatalog catalog = plantCatalogService.getCatalog();
+        return catalog.findByName(plantName)
+                .orElseGet(() -> catalog.getOtherPlant()
                         .orElseThrow(() -> new PlantNotFoundException("DB에 '기타' 항목이 존재하지 않습니다.")));
     }
 
@@ -293,8 +460,18 @@ public class UserPlantService {
      */
     private Farm findFarmByGardenUniqueId(int gardenUniqueId) {
         return farmRepository.findByGardenUniqueId(gardenUniqueId)
-                .orElseGet(() -> farmRepository.getOtherFarm("기타(Other)")
-                        .orElseThrow(() -> new FarmNotFoundException("DB에 '기타(Other)' 항목이 존재하지 않습니다.")));
+                .orElseGet(this::getOtherFarm);
+    }
+
+    /**
+     * '기타(Other)' 텃밭 조회
+     * - 등록된 텃밭이 아닌 경우(사용자가 직접 입력한 장소)에 사용
+     *
+     * @return '기타(Other)' 텃밭 정보
+     */
+    private Farm getOtherFarm() {
+        return farmRepository.getOtherFarm("기타(Other)")
+                .orElseThrow(() -> new FarmNotFoundException("DB에 '기타(Other)' 항목이 존재하지 않습니다."));
     }
 
     /**
@@ -319,14 +496,14 @@ public class UserPlantService {
 
     /**
      * 사용자 입력 식물인지 아닌지 확인
+     * - 식물 카탈로그 스냅샷에서 확인
      *
-     * @param oldPlantName 기존 사용자 식물 종류 이름(Plant의 PlantName)
+     * @param oldPlantId 기존 사용자 식물 종류 ID(Plant의 plantId)
      * @param requestPlantName 사용자가 작성한 식물 이름(other)
      * @return 결과값(TF)
      */
-    private boolean isOtherPlant(String oldPlantName, String requestPlantName) {
-        return Objects.equals(oldPlantName, "기타")
-                && !plantRepository.existsByPlantName(requestPlantName)
-                && !plantRepository.existsByPlantEnglishName(requestPlantName);
+    private boolean isOtherPlant(Long oldPlantId, String requestPlantName) {
+        PlantCatalog catalog = plantCatalogService.getCatalog();
+        return catalog.isOtherPlant(oldPlantId) && !catalog.containsName(requestPlantName);
     }
 }
@@ -2,8 +2,11 @@ package com.project.farming.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class AppConfig {
 
@@ -11,4 +14,89 @@ public class AppConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    /**
+     * 홈 화면 조회 시 하위 조회(식물/알림 개수)를 동시에 실행하기 위한 스레드 풀
+     * - 큐가 가득 차면 요청 스레드에서 직접 실행
+     */
+    @Bean
+    public ThreadPoolTaskExecutor homeQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("home-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드된 이미지의 축소본 생성용 스레드 풀
+     * - 이미지 디코딩은 메모리를 많이 쓰므로 스레드 수와 큐 크기를 작게 제한
+     * - 큐가 가득 차면 작업을 버리고, 해당 이미지는 원본 URL로 응답
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * S3 멀티파트 업로드의 파트 병렬 전송용 스레드 풀
+     * - 업로드 하나당 동시 전송 파트 수는 S3MultipartUploader에서 따로 제한
+     * - 큐가 가득 차면 업로드 요청 스레드에서 직접 전송
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3PartUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("s3-part-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Spring MVC 비동기 요청(Callable, StreamingResponseBody 등)용 스레드 풀
+     * - 직접 정의한 스레드 풀 빈이 있으면 Spring Boot의 applicationTaskExecutor가 만들어지지 않아,
+     *   지정하지 않으면 요청마다 스레드를 새로 만드는 SimpleAsyncTaskExecutor가 사용됨
+     * - 큐가 가득 차면 요청을 실패 처리
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 챗봇 서버 응답 이후의 DB 작업(채팅방 저장/삭제)용 스레드 풀
+     * - 응답은 WebClient 이벤트 루프 스레드에서 받으므로, 블로킹되는 DB 작업은 이 풀로 넘겨서 실행
+     * - 큐가 가득 차면 이벤트 루프에서 실행하지 않고 요청을 실패 처리
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chatPersistenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("chat-persistence-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,31 @@
+package com.project.farming.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 저장 설정
+ * - 모든 엔티티가 IDENTITY 전략을 사용하므로 Hibernate의 INSERT 배치가 동작하지 않음
+ * - 대량 저장은 JdbcBatchWriter로 처리하고, MySQL 드라이버가 배치를 multi-row INSERT 하나로
+ *   재작성하도록 rewriteBatchedStatements 옵션을 커넥션 풀에 추가
+ */
+@Configuration
+public class JdbcBatchConfig {
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,9 +1,15 @@
 package com.project.farming.global.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
@@ -11,10 +17,45 @@ public class WebClientConfig {
     @Value("${python.server.url}")
     private String pythonServerUrl;
 
+    @Value("${python.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${python.client.pending-acquire-timeout-seconds:5}")
+    private long pendingAcquireTimeoutSeconds;
+
+    @Value("${python.client.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    @Value("${python.client.connect-timeout-millis:3000}")
+    private int connectTimeoutMillis;
+
+    // 호출마다 따로 지정하지 않은 경우의 응답 대기 시간
+    @Value("${python.client.response-timeout-seconds:60}")
+    private long responseTimeoutSeconds;
+
+    /**
+     * Python 서버 연결 풀
+     * - 연결이 모두 사용 중이면 최대 pending-acquire-timeout 동안 대기한 뒤 실패
+     * - 오래 쉬고 있는 연결은 서버/프록시가 먼저 끊기 전에 백그라운드에서 정리
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider pythonConnectionProvider() {
+        return ConnectionProvider.builder("python-server")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(pendingAcquireTimeoutSeconds))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .build();
+    }
+
     @Bean("pythonWebClient")
-    public WebClient pythonWebClient() {
+    public WebClient pythonWebClient(ConnectionProvider pythonConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(pythonConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
         return WebClient.builder()
                 .baseUrl(pythonServerUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
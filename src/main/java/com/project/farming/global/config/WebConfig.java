@@ -1,13 +1,20 @@
 package com.project.farming.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig {
 
+    // 비동기 응답(챗봇 답변 대기)의 최대 처리 시간, 컨테이너 기본값(30초)은 챗봇 응답 대기 시간보다 짧음
+    @Value("${web.async.request-timeout-seconds:120}")
+    private long asyncRequestTimeoutSeconds;
+
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
@@ -21,4 +28,15 @@ public class WebConfig {
             }
         };
     }
-}
\ No newline at end of file
+
+    @Bean
+    public WebMvcConfigurer asyncSupportConfigurer(ThreadPoolTaskExecutor mvcAsyncExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setDefaultTimeout(asyncRequestTimeoutSeconds * 1000);
+                configurer.setTaskExecutor(mvcAsyncExecutor);
+            }
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.farming.global.exception;
+
+public class FarmImportException extends RuntimeException {
+    public FarmImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package com.project.farming.global.image.config;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.ImageFile;
 import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import com.project.farming.global.image.service.ImageFileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,14 +29,16 @@ public class ImageFileDataInitializer implements CommandLineRunner {
 
     private final ImageFileService imageFileService;
     private final ImageFileRepository imageFileRepository;
+    private final DefaultImageRegistry defaultImageRegistry;
 
     @Override
     public void run(String... args) throws Exception {
         if (imageFileRepository.count() > 0) {
             log.info("image_files 테이블에 기본 이미지 데이터가 이미 존재합니다.");
-            return;
+        } else {
+            initializeImageFiles();
         }
-        initializeImageFiles();
+        defaultImageRegistry.load();
     }
 
     private void initializeImageFiles() throws IOException {
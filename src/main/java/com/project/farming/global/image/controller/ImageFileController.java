@@ -5,6 +5,8 @@ import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.jwtToken.CustomUserDetails;
 import com.project.farming.global.image.dto.ErrorResponseDto;
 import com.project.farming.global.image.dto.ImageUploadResponseDto;
+import com.project.farming.global.image.dto.ImageUploadUrlRequestDto;
+import com.project.farming.global.image.dto.ImageUploadUrlResponseDto;
 import com.project.farming.global.image.entity.ImageFile;
 import com.project.farming.global.image.service.ImageFileService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,8 +17,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +28,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/images")
 @RequiredArgsConstructor
@@ -69,6 +75,65 @@ public class ImageFileController {
         );
     }
 
+    @Operation(summary = "이미지 스트리밍 업로드",
+            description = "요청 본문(이미지 바이너리)을 서버에 저장하지 않고 바로 S3에 업로드합니다. "
+                    + "Content-Type 헤더에 이미지 형식을 지정해야 하며, 큰 파일은 S3 멀티파트로 병렬 업로드됩니다. "
+                    + "응답의 imageFileId를 일지/사용자 식물/프로필/사진 분석 API에 전달해 이미지를 연결합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "이미지 업로드 성공",
+                    content = @Content(schema = @Schema(implementation = ImageUploadResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (이미지가 아닌 파일, 크기 초과, 지원하지 않는 도메인 유형 등)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping(value = "/stream", consumes = "image/*")
+    public ResponseEntity<ImageUploadResponseDto> uploadImageStream(
+            @Parameter(description = "이미지가 속할 도메인 유형 (USER, DIARY, USERPLANT, PHOTO)", required = true)
+            @RequestParam("domainType") ImageDomainType domainType,
+            @Parameter(description = "원본 파일명", required = true)
+            @RequestParam("fileName") String fileName,
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(hidden = true) InputStream body,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        ImageFile uploadedImage = imageFileService.uploadStream(
+                customUserDetails.getUser().getUserId(), domainType, fileName, contentType, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+                ImageUploadResponseDto.builder()
+                        .imageFileId(uploadedImage.getImageFileId())
+                        .imageUrl(uploadedImage.getImageUrl())
+                        .message("이미지 업로드 성공")
+                        .build()
+        );
+    }
+
+    @Operation(summary = "이미지 업로드 URL 발급",
+            description = "S3에 직접 업로드할 수 있는 Presigned PUT URL을 발급합니다. "
+                    + "클라이언트는 uploadUrl로 파일을 PUT(요청한 Content-Type, Content-Length 헤더 포함)한 뒤, "
+                    + "일지/사용자 식물/프로필/사진 분석 API에 imageFileId를 전달해 이미지를 연결합니다. "
+                    + "연결되지 않은 이미지는 만료 후 삭제됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "업로드 URL 발급 성공",
+                    content = @Content(schema = @Schema(implementation = ImageUploadUrlResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (이미지가 아닌 파일, 최대 크기 초과, 지원하지 않는 도메인 유형 등)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/upload-url")
+    public ResponseEntity<ImageUploadUrlResponseDto> createUploadUrl(
+            @Valid @RequestBody ImageUploadUrlRequestDto request,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        ImageUploadUrlResponseDto response = imageFileService.createUploadUrl(
+                customUserDetails.getUser().getUserId(),
+                request.getDomainType(), request.getFileName(), request.getContentType(), request.getContentLength());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(summary = "이미지 삭제", description = "지정된 ImageFile ID에 해당하는 이미지를 S3와 DB에서 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "이미지 삭제 성공"),
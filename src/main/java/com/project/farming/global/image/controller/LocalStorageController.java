@@ -0,0 +1,100 @@
+package com.project.farming.global.image.controller;
+
+import com.project.farming.global.exception.AccessDeniedException;
+import com.project.farming.global.image.storage.LocalObjectStorage;
+import com.project.farming.global.image.storage.StoredObject;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로컬 파일 저장소(storage.type=local)의 파일 제공/업로드
+ * - GET: 파일 내용 반환. Tomcat이 sendfile을 지원하면 파일 경로만 넘겨서 커널이 소켓으로 바로 전송(zero-copy)
+ * - PUT: LocalObjectStorage가 발급한 서명된 업로드 URL(Presigned URL 대체)로 파일 저장
+ *   (Content-Length가 서명에 포함되므로 크기를 알 수 없는 chunked 요청은 거부)
+ */
+@Slf4j
+@Hidden
+@RestController
+@RequestMapping(LocalStorageController.BASE_PATH)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+
+    static final String BASE_PATH = "/local-storage";
+
+    // Tomcat sendfile 요청 속성(org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024; // 작은 파일은 sendfile보다 직접 쓰는 편이 빠름(Tomcat 기본값과 같음)
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Value("${image.upload.max-size-bytes:10485760}")
+    private long maxUploadSizeBytes;
+
+    @GetMapping("/**")
+    public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = extractKey(request);
+        StoredObject object = localObjectStorage.findMetadata(key);
+        if (object == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(object.contentType());
+        response.setContentLengthLong(object.size());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+
+        if (object.size() >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, localObjectStorage.getPath(key).toString());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, object.size());
+            return;
+        }
+        localObjectStorage.transferTo(key, Channels.newChannel(response.getOutputStream()));
+    }
+
+    @PutMapping("/**")
+    public ResponseEntity<Void> putFile(
+            @RequestParam("expires") long expires,
+            @RequestParam("signature") String signature,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        String key = extractKey(request);
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0
+                || !localObjectStorage.verifyUploadSignature(key, contentType, contentLength, expires, signature)) {
+            log.error("유효하지 않은 업로드 URL입니다: {} ({} bytes)", key, contentLength);
+            throw new AccessDeniedException("유효하지 않거나 만료된 업로드 URL입니다.");
+        }
+        try (InputStream body = request.getInputStream()) {
+            localObjectStorage.uploadStream(body, key, contentType, Math.min(contentLength, maxUploadSizeBytes));
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private String extractKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + BASE_PATH.length() + 1);
+        return UriUtils.decode(path, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.farming.global.image.dto;
+
+import com.project.farming.global.image.entity.ImageDomainType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이미지 업로드 URL 발급 요청 DTO")
+public class ImageUploadUrlRequestDto {
+
+    @NotNull(message = "도메인 유형은 필수 입력 사항입니다.")
+    @Schema(description = "이미지가 속할 도메인 유형", example = "DIARY")
+    private ImageDomainType domainType;
+
+    @NotBlank(message = "파일명은 필수 입력 사항입니다.")
+    @Schema(description = "원본 파일명", example = "tomato.jpg")
+    private String fileName;
+
+    @NotBlank(message = "Content-Type은 필수 입력 사항입니다.")
+    @Schema(description = "업로드할 파일의 Content-Type (S3 업로드 시 같은 값을 Content-Type 헤더로 전송)", example = "image/jpeg")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수 입력 사항입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    @Schema(description = "업로드할 파일 크기(byte) (S3 업로드 시 같은 값을 Content-Length 헤더로 전송)", example = "204800")
+    private Long contentLength;
+}
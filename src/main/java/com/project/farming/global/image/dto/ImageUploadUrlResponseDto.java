@@ -0,0 +1,24 @@
+package com.project.farming.global.image.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Schema(description = "이미지 업로드 URL 발급 응답 DTO")
+public class ImageUploadUrlResponseDto {
+    @Schema(description = "업로드 대기 중인 이미지 파일의 ID (업로드 후 각 API에 imageFileId로 전달)", example = "1")
+    private Long imageFileId;
+
+    @Schema(description = "S3에 직접 PUT 요청으로 업로드할 Presigned URL")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 후 이미지의 S3 URL", example = "https://your-bucket.s3.ap-northeast-2.amazonaws.com/diary/1/uuid-image.jpg")
+    private String imageUrl;
+
+    @Schema(description = "Presigned URL 만료 시각", example = "2025-07-14T12:10:00")
+    private LocalDateTime expiresAt;
+}
@@ -3,10 +3,14 @@ package com.project.farming.global.image.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "image_files", indexes = {
         @Index(name = "idx_covering_image_file",
-                columnList = "image_file_id, image_url, domain_type, domain_id")
+                columnList = "image_file_id, image_url, domain_type, domain_id"),
+        @Index(name = "idx_image_file_pending_expires_at", columnList = "pending_expires_at"),
+        @Index(name = "idx_image_file_content_hash", columnList = "content_hash")
 })
 @Getter
 @Builder
@@ -35,6 +39,28 @@ public class ImageFile {
     @Column(nullable = false)
     private Long domainId;
 
+    @Column(length = 64)
+    private String contentHash; // 파일 내용의 SHA-256(hex), 같은 이미지 재사용에 사용
+
+    // 이 이미지를 사용하는 곳의 수(증감은 ImageFileRepository의 UPDATE 쿼리로만 변경)
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int referenceCount = 1;
+
+    // 축소본 URL(생성 전이거나 외부/기본 이미지는 null)
+    @Column(length = 512)
+    private String smallImageUrl;
+
+    @Column(length = 512)
+    private String mediumImageUrl;
+
+    @Column(length = 512)
+    private String largeImageUrl;
+
+    // Presigned URL로 업로드 대기 중인 이미지의 만료 시각(연결이 완료된 이미지는 null)
+    @Column
+    private LocalDateTime pendingExpiresAt;
+
     public void updateOriginalImageName(String originalImageName) {
         this.originalImageName = originalImageName;
     }
@@ -46,4 +72,34 @@ public class ImageFile {
     public void updateImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    /**
+     * 화면에 맞는 크기의 이미지 URL 반환
+     * - 축소본이 아직 없으면 원본 URL 반환
+     *
+     * @param variant 축소본 크기
+     * @return 이미지 URL
+     */
+    public String getImageUrl(ImageVariant variant) {
+        String variantUrl = switch (variant) {
+            case SMALL -> smallImageUrl;
+            case MEDIUM -> mediumImageUrl;
+            case LARGE -> largeImageUrl;
+        };
+        return variantUrl != null ? variantUrl : imageUrl;
+    }
+
+    public boolean isPending() {
+        return pendingExpiresAt != null;
+    }
+
+    /**
+     * 업로드 대기 중인 이미지를 도메인 엔티티에 연결
+     *
+     * @param domainId 이미지가 속할 도메인 엔티티의 ID
+     */
+    public void attach(Long domainId) {
+        this.domainId = domainId;
+        this.pendingExpiresAt = null;
+    }
 }
@@ -0,0 +1,39 @@
+package com.project.farming.global.image.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드된 이미지의 축소본 크기
+ * - 축소본은 원본 s3Key 뒤에 "_w{가로 길이}.jpg"를 붙인 키로 저장
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(160, "목록 썸네일"),
+    MEDIUM(480, "카드/피드"),
+    LARGE(1080, "상세 화면");
+
+    private final int width;
+    private final String description;
+
+    public String keyOf(String s3Key) {
+        return s3Key + "_w" + width + ".jpg";
+    }
+
+    /**
+     * 축소본 s3Key에서 원본 s3Key 추출
+     *
+     * @param s3Key S3 객체 키
+     * @return 원본 s3Key(축소본이 아니면 그대로 반환)
+     */
+    public static String originalKeyOf(String s3Key) {
+        for (ImageVariant variant : values()) {
+            String suffix = "_w" + variant.width + ".jpg";
+            if (s3Key.endsWith(suffix)) {
+                return s3Key.substring(0, s3Key.length() - suffix.length());
+            }
+        }
+        return s3Key;
+    }
+}
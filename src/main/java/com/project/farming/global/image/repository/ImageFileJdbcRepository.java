@@ -0,0 +1,36 @@
+package com.project.farming.global.image.repository;
+
+import com.project.farming.global.image.entity.ImageFile;
+import com.project.farming.global.jdbc.JdbcBatchWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 이미지 파일 정보 대량 저장(JDBC 배치 INSERT)
+ */
+@RequiredArgsConstructor
+@Repository
+public class ImageFileJdbcRepository {
+
+    private static final String INSERT_IMAGE_FILE = """
+            INSERT INTO image_files (original_image_name, s3_key, image_url, domain_type, domain_id,
+                                     content_hash, reference_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcBatchWriter jdbcBatchWriter;
+
+    public int saveAll(List<ImageFile> imageFileList) {
+        return jdbcBatchWriter.batchInsert(INSERT_IMAGE_FILE, imageFileList, (ps, imageFile) -> {
+            ps.setString(1, imageFile.getOriginalImageName());
+            ps.setString(2, imageFile.getS3Key());
+            ps.setString(3, imageFile.getImageUrl());
+            ps.setString(4, imageFile.getDomainType().name());
+            ps.setLong(5, imageFile.getDomainId());
+            ps.setString(6, imageFile.getContentHash());
+            ps.setInt(7, imageFile.getReferenceCount());
+        });
+    }
+}
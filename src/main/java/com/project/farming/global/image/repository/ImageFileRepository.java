@@ -3,11 +3,70 @@ package com.project.farming.global.image.repository;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.ImageFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ImageFileRepository extends JpaRepository<ImageFile, Long> {
     List<ImageFile> findByDomainTypeAndDomainId(ImageDomainType domainType, Long domainId);
     Optional<ImageFile> findByS3Key(String s3Key);
+    List<ImageFile> findByS3KeyIn(List<String> s3Keys);
+    List<ImageFile> findTop500ByPendingExpiresAtBefore(LocalDateTime now);
+    Optional<ImageFile> findFirstByContentHashAndPendingExpiresAtIsNull(String contentHash);
+
+    @Query("SELECT i.s3Key FROM ImageFile i WHERE i.s3Key IN :s3Keys")
+    List<String> findS3KeysByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageFile i SET i.referenceCount = i.referenceCount + 1 WHERE i.imageFileId = :imageFileId")
+    int incrementReferenceCount(@Param("imageFileId") Long imageFileId);
+
+    /**
+     * 다른 곳에서도 사용 중인 이미지면 참조 수 감소
+     *
+     * @return 변경된 행 수(0이면 마지막 참조이므로 이미지를 삭제해야 함)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE ImageFile i SET i.referenceCount = i.referenceCount - 1
+        WHERE i.imageFileId = :imageFileId AND i.referenceCount > 1
+        """)
+    int decrementReferenceCount(@Param("imageFileId") Long imageFileId);
+
+    /**
+     * 마지막 참조인 경우에만 이미지 삭제
+     * - 참조 수 확인과 삭제를 한 문장으로 처리해서, 그 사이에 다른 요청이 같은 이미지를 재사용하면 삭제하지 않음
+     *
+     * @return 삭제된 행 수(0이면 다른 곳에서 다시 사용 중)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageFile i WHERE i.imageFileId = :imageFileId AND i.referenceCount <= 1")
+    int deleteIfLastReference(@Param("imageFileId") Long imageFileId);
+
+    /**
+     * 축소본 URL 저장
+     * - 생성 중에 이미지가 교체/삭제되었으면(s3Key 불일치) 변경하지 않음
+     *
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE ImageFile i
+        SET i.smallImageUrl = :smallImageUrl, i.mediumImageUrl = :mediumImageUrl, i.largeImageUrl = :largeImageUrl
+        WHERE i.imageFileId = :imageFileId AND i.s3Key = :s3Key
+        """)
+    int updateVariantUrls(@Param("imageFileId") Long imageFileId, @Param("s3Key") String s3Key,
+                          @Param("smallImageUrl") String smallImageUrl,
+                          @Param("mediumImageUrl") String mediumImageUrl,
+                          @Param("largeImageUrl") String largeImageUrl);
 }
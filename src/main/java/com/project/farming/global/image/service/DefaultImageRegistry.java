@@ -0,0 +1,92 @@
+package com.project.farming.global.image.service;
+
+import com.project.farming.global.exception.ImageFileNotFoundException;
+import com.project.farming.global.image.entity.DefaultImages;
+import com.project.farming.global.image.entity.ImageFile;
+import com.project.farming.global.image.repository.ImageFileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 이미지(사용자, 식물, 텃밭) ID 저장소
+ * - 기본 이미지는 ImageFileDataInitializer에서 한 번 저장된 후 바뀌지 않으므로 시작 시 ID를 한 번만 조회
+ * - 이후에는 s3Key 조회 없이 getReferenceById 프록시를 반환
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DefaultImageRegistry {
+
+    private static final List<String> DEFAULT_IMAGE_KEYS = List.of(
+            DefaultImages.DEFAULT_USER_IMAGE, DefaultImages.DEFAULT_PLANT_IMAGE, DefaultImages.DEFAULT_FARM_IMAGE);
+
+    private final ImageFileRepository imageFileRepository;
+
+    private volatile Map<String, Long> defaultImageIds;
+
+    /**
+     * ImageFileDataInitializer에서 사용
+     * - 기본 이미지 ID 조회 및 저장
+     */
+    public void load() {
+        Map<String, Long> ids = imageFileRepository.findByS3KeyIn(DEFAULT_IMAGE_KEYS).stream()
+                .collect(Collectors.toUnmodifiableMap(ImageFile::getS3Key, ImageFile::getImageFileId));
+        if (ids.size() < DEFAULT_IMAGE_KEYS.size()) {
+            log.warn("일부 기본 이미지가 존재하지 않습니다: {}", ids.keySet());
+        }
+        this.defaultImageIds = ids;
+    }
+
+    public ImageFile getDefaultUserImage() {
+        return imageFileRepository.getReferenceById(getDefaultImageId(DefaultImages.DEFAULT_USER_IMAGE));
+    }
+
+    public ImageFile getDefaultPlantImage() {
+        return imageFileRepository.getReferenceById(getDefaultImageId(DefaultImages.DEFAULT_PLANT_IMAGE));
+    }
+
+    public ImageFile getDefaultFarmImage() {
+        return imageFileRepository.getReferenceById(getDefaultImageId(DefaultImages.DEFAULT_FARM_IMAGE));
+    }
+
+    /**
+     * 기본 이미지 ID 반환
+     * - 아직 조회하지 않았거나 없는 경우 다시 조회
+     *
+     * @param s3Key 기본 이미지의 s3Key(DefaultImages)
+     * @return 기본 이미지 ID
+     */
+    public Long getDefaultImageId(String s3Key) {
+        Map<String, Long> ids = defaultImageIds;
+        if (ids == null || !ids.containsKey(s3Key)) {
+            load();
+            ids = defaultImageIds;
+        }
+        Long id = ids.get(s3Key);
+        if (id == null) {
+            log.error("기본 이미지가 존재하지 않습니다: {}", s3Key);
+            throw new ImageFileNotFoundException("기본 이미지가 존재하지 않습니다: " + s3Key);
+        }
+        return id;
+    }
+
+    /**
+     * 기본 이미지인지 ID로 확인
+     *
+     * @param imageFileId 확인할 이미지 ID
+     * @return 기본 이미지이면 true
+     */
+    public boolean isDefaultImage(Long imageFileId) {
+        Map<String, Long> ids = defaultImageIds;
+        if (ids == null) {
+            load();
+            ids = defaultImageIds;
+        }
+        return imageFileId != null && ids.containsValue(imageFileId);
+    }
+}
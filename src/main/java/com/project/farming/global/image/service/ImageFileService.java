@@ -1,17 +1,35 @@
 package com.project.farming.global.image.service;
 
 import com.project.farming.global.exception.ImageFileNotFoundException;
+import com.project.farming.global.exception.ImageUploadException;
 import com.project.farming.global.image.entity.ImageDomainType;
 import com.project.farming.global.image.entity.DefaultImages;
 import com.project.farming.global.image.entity.ImageFile;
+import com.project.farming.global.image.entity.ImageVariant;
+import com.project.farming.global.image.repository.ImageFileJdbcRepository;
 import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.storage.ObjectStorage;
+import com.project.farming.global.image.storage.StoredObject;
 import lombok.RequiredArgsConstructor;
+import com.project.farming.global.image.dto.ImageUploadUrlResponseDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,16 +39,31 @@ import java.util.UUID;
 @Slf4j
 public class ImageFileService {
 
-    private final S3Service s3Service;
+    // 클라이언트 직접 업로드(Presigned URL, 스트리밍)를 지원하는 도메인(관리자 화면의 식물/텃밭 이미지는 기존 업로드 사용)
+    private static final EnumSet<ImageDomainType> DIRECT_UPLOAD_DOMAIN_TYPES = EnumSet.of(
+            ImageDomainType.USER, ImageDomainType.DIARY, ImageDomainType.USERPLANT, ImageDomainType.PHOTO);
+
+    private final ObjectStorage objectStorage;
     private final ImageFileRepository imageFileRepository;
+    private final ImageFileJdbcRepository imageFileJdbcRepository;
+    private final DefaultImageRegistry defaultImageRegistry;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ObjectDeletionQueue objectDeletionQueue;
+
+    @Value("${image.upload.url-expiration-minutes:10}")
+    private long uploadUrlExpirationMinutes;
+
+    @Value("${image.upload.max-size-bytes:10485760}")
+    private long maxUploadSizeBytes;
 
     /**
      * S3에 이미지를 업로드하고, ImageFile 엔티티를 생성하여 DB에 저장합니다.
+     * 같은 내용(SHA-256)의 이미지가 이미 있으면 업로드하지 않고 기존 ImageFile의 참조 수를 늘려서 재사용합니다.
      *
      * @param multipartFile 업로드할 이미지 파일
      * @param domainType    이미지가 속할 도메인 유형 (예: ImageDomainType.USER)
      * @param domainId      이미지가 속할 도메인 엔티티의 ID
-     * @return 저장된 ImageFile 엔티티
+     * @return 저장된(또는 재사용한) ImageFile 엔티티
      */
     @Transactional
     public ImageFile uploadImage(MultipartFile multipartFile, ImageDomainType domainType, Long domainId) {
@@ -38,13 +71,22 @@ public class ImageFileService {
             throw new IllegalArgumentException("업로드할 파일이 없습니다.");
         }
 
+        String contentHash = sha256(multipartFile);
+        Optional<ImageFile> existing = imageFileRepository.findFirstByContentHashAndPendingExpiresAtIsNull(contentHash);
+        // 조회 이후 마지막 참조가 삭제되었으면(변경된 행 없음) 새로 업로드
+        if (existing.isPresent() && imageFileRepository.incrementReferenceCount(existing.get().getImageFileId()) > 0) {
+            ImageFile imageFile = existing.get();
+            log.info("같은 이미지가 있어 재사용합니다. ImageFile ID: {}", imageFile.getImageFileId());
+            return imageFile;
+        }
+
         String originalFilename = multipartFile.getOriginalFilename();
 
         // S3에 저장될 고유한 파일명 생성 (UUID 사용)
         String s3Key = getS3Key(originalFilename, domainType, domainId);
 
         // S3에 파일 업로드
-        String s3Url = s3Service.uploadFile(multipartFile, s3Key);
+        String s3Url = objectStorage.uploadFile(multipartFile, s3Key);
 
         // ImageFile 엔티티 생성 및 저장
         ImageFile imageFile = ImageFile.builder()
@@ -53,48 +95,134 @@ public class ImageFileService {
                 .imageUrl(s3Url)
                 .domainType(domainType)
                 .domainId(domainId)
+                .contentHash(contentHash)
                 .build();
 
-        return imageFileRepository.save(imageFile);
+        ImageFile savedImageFile = imageFileRepository.save(imageFile);
+        imageVariantGenerator.generateAfterCommit(savedImageFile);
+        return savedImageFile;
     }
 
     /**
-     * S3에 업로드된 이미지를 수정하고, ImageFile 엔티티를 수정하여 DB에 저장합니다.
+     * 클라이언트가 S3에 직접 업로드할 수 있도록 Presigned URL을 발급하고, 업로드 대기 중인 ImageFile을 저장합니다.
+     * 업로드 후 각 도메인 API에 imageFileId를 전달하면 attachUploadedImage로 도메인 엔티티에 연결됩니다.
+     * 연결되지 않은 채 만료된 이미지는 PendingImageCleanupScheduler가 정리합니다.
      *
-     * @param oldImageFileId 수정할 ImageFile의 ID
-     * @param newFile 업로드할 새로운 이미지 파일
-     * @param domainType 이미지가 속할 도메인 유형 (예: ImageDomainType.PLANT)
-     * @param domainId 이미지가 속할 도메인 엔티티의 ID
-     * @return 수정된 ImageFile 엔티티
+     * @param userId      업로드하는 사용자 ID(연결 전까지 domainId로 저장)
+     * @param domainType  이미지가 속할 도메인 유형
+     * @param fileName    원본 파일명
+     * @param contentType 업로드할 파일의 Content-Type(image/*만 허용)
+     * @param contentLength 업로드할 파일의 크기(byte, 최대 업로드 크기 이하). URL 서명에 포함되어 다른 크기의 파일은 업로드되지 않음
+     * @return Presigned URL과 업로드 대기 중인 ImageFile 정보
      */
     @Transactional
-    public ImageFile updateImage(
-            Long oldImageFileId,
-            MultipartFile newFile, ImageDomainType domainType, Long domainId) {
+    public ImageUploadUrlResponseDto createUploadUrl(Long userId, ImageDomainType domainType,
+                                                     String fileName, String contentType, long contentLength) {
+        validateDirectUpload(domainType, contentType);
+        if (contentLength <= 0 || contentLength > maxUploadSizeBytes) {
+            log.error("업로드할 수 없는 파일 크기입니다: {} bytes (최대 {} bytes)", contentLength, maxUploadSizeBytes);
+            throw new IllegalArgumentException("파일 크기는 " + maxUploadSizeBytes + " bytes 이하여야 합니다: " + contentLength);
+        }
+        String s3Key = getS3Key(fileName, domainType, userId);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(uploadUrlExpirationMinutes);
 
-        ImageFile oldImageFile = imageFileRepository.findById(oldImageFileId)
-                .orElseThrow(() -> new ImageFileNotFoundException("존재하지 않는 이미지 파일입니다: " + oldImageFileId));
-        String oldImageS3Key = oldImageFile.getS3Key();
+        ImageFile imageFile = imageFileRepository.save(ImageFile.builder()
+                .originalImageName(fileName)
+                .s3Key(s3Key)
+                .imageUrl(objectStorage.getFileUrl(s3Key))
+                .domainType(domainType)
+                .domainId(userId)
+                // 업로드가 끝나고 연결되기까지 여유를 두고 정리
+                .pendingExpiresAt(expiresAt.plusHours(1))
+                .build());
+        String uploadUrl = objectStorage.generateUploadUrl(s3Key, contentType, contentLength, Timestamp.valueOf(expiresAt));
 
-        // 기본 이미지 수정 방지(S3, imageFile DB)
-        if (DefaultImages.isDefaultImage(oldImageS3Key)) {
-            log.info("기본 이미지는 수정할 수 없습니다. 대신 새 이미지를 업로드합니다. ImageFile ID: {}", oldImageFileId);
-            // 기본 이미지는 수정이 안되므로, 새 파일이 들어오면 새로운 ImageFile을 생성하여 반환
-            return uploadImage(newFile, domainType, domainId);
+        return ImageUploadUrlResponseDto.builder()
+                .imageFileId(imageFile.getImageFileId())
+                .uploadUrl(uploadUrl)
+                .imageUrl(imageFile.getImageUrl())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 요청 본문 스트림을 그대로 S3에 업로드하고, 업로드 대기 중인 ImageFile을 저장합니다.
+     * 업로드 중에는 DB 트랜잭션을 열지 않으며, 내용의 SHA-256은 업로드하면서 함께 계산합니다.
+     * 이후 흐름은 Presigned URL 업로드와 같습니다(각 도메인 API에 imageFileId 전달).
+     *
+     * @param userId      업로드하는 사용자 ID(연결 전까지 domainId로 저장)
+     * @param domainType  이미지가 속할 도메인 유형
+     * @param fileName    원본 파일명
+     * @param contentType 업로드할 파일의 Content-Type(image/*만 허용)
+     * @param in          요청 본문 스트림
+     * @return 업로드 대기 중인 ImageFile 엔티티
+     */
+    public ImageFile uploadStream(Long userId, ImageDomainType domainType,
+                                  String fileName, String contentType, InputStream in) {
+        validateDirectUpload(domainType, contentType);
+        String s3Key = getS3Key(fileName, domainType, userId);
+
+        MessageDigest digest = newSha256Digest();
+        String imageUrl = objectStorage.uploadStream(new DigestInputStream(in, digest), s3Key, contentType, maxUploadSizeBytes);
+
+        try {
+            return imageFileRepository.save(ImageFile.builder()
+                    .originalImageName(fileName)
+                    .s3Key(s3Key)
+                    .imageUrl(imageUrl)
+                    .domainType(domainType)
+                    .domainId(userId)
+                    .contentHash(HexFormat.of().formatHex(digest.digest()))
+                    .pendingExpiresAt(LocalDateTime.now().plusHours(1))
+                    .build());
+        } catch (RuntimeException e) {
+            // DB에 기록되지 않은 객체는 정리 작업이 찾을 수 없으므로 바로 삭제 대기열에 추가
+            log.error("업로드한 이미지 정보 저장 실패, 저장소 객체를 삭제합니다: {}. 오류: {}", s3Key, e.getMessage());
+            objectDeletionQueue.deleteAfterCommit(s3Key);
+            throw e;
+        }
+    }
+
+    /**
+     * Presigned URL로 업로드된 이미지를 확인하고 도메인 엔티티에 연결합니다.
+     * S3에는 HEAD 요청만 보내서 업로드 여부, 크기, Content-Type을 확인합니다.
+     *
+     * @param imageFileId 업로드 URL 발급 시 받은 ImageFile ID
+     * @param userId      업로드한 사용자 ID
+     * @param domainType  이미지가 속할 도메인 유형
+     * @param domainId    이미지가 속할 도메인 엔티티의 ID
+     * @return 연결된 ImageFile 엔티티
+     */
+    @Transactional
+    public ImageFile attachUploadedImage(Long imageFileId, Long userId, ImageDomainType domainType, Long domainId) {
+        ImageFile imageFile = imageFileRepository.findById(imageFileId)
+                .orElseThrow(() -> new ImageFileNotFoundException("존재하지 않는 이미지 파일입니다: " + imageFileId));
+        if (!imageFile.isPending() || imageFile.getDomainType() != domainType
+                || !imageFile.getDomainId().equals(userId)) {
+            log.error("연결할 수 없는 이미지입니다. imageFileId={}, userId={}, domainType={}", imageFileId, userId, domainType);
+            throw new IllegalArgumentException("연결할 수 없는 이미지입니다: " + imageFileId);
         }
 
-        String newOriginalImageName = newFile.getOriginalFilename();
-        String newS3Key = getS3Key(newOriginalImageName, domainType, domainId);
-        String newImageUrl = s3Service.updateFile(oldImageS3Key, newFile, newS3Key);
+        StoredObject metadata = objectStorage.findMetadata(imageFile.getS3Key());
+        if (metadata == null) {
+            log.error("S3에 업로드되지 않은 이미지입니다: {}", imageFile.getS3Key());
+            throw new IllegalArgumentException("이미지 업로드가 완료되지 않았습니다: " + imageFileId);
+        }
+        String contentType = metadata.contentType();
+        if (metadata.size() > maxUploadSizeBytes || contentType == null || !contentType.startsWith("image/")) {
+            log.error("허용되지 않는 이미지입니다: {} ({}, {} bytes)",
+                    imageFile.getS3Key(), contentType, metadata.size());
+            throw new IllegalArgumentException("허용되지 않는 이미지 파일입니다: " + imageFileId);
+        }
 
-        oldImageFile.updateOriginalImageName(newOriginalImageName);
-        oldImageFile.updateS3Key(newS3Key);
-        oldImageFile.updateImageUrl(newImageUrl);
-        return imageFileRepository.save(oldImageFile);
+        imageFile.attach(domainId);
+        imageVariantGenerator.generateAfterCommit(imageFile);
+        return imageFile;
     }
 
     /**
      * ImageFile ID를 기반으로 이미지를 삭제합니다.
+     * 다른 곳에서도 사용 중인 이미지면 참조 수만 줄이고, 마지막 참조일 때
      * ImageFile에 S3 Key가 있는 경우 S3에서 객체를 삭제하고, DB에서도 ImageFile 레코드를 삭제합니다.
      *
      * @param imageFileId 삭제할 ImageFile의 ID
@@ -110,17 +238,30 @@ public class ImageFileService {
             return;
         }
 
-        // S3 Key가 존재하는 경우에만 S3에서 객체 삭제 시도
-        // (null이 아닌 경우에만 s3Service.deleteFile 호출)
+        // 이미지를 참조하던 엔티티의 변경(삭제/이미지 교체)을 먼저 반영해야 아래 DELETE가 FK에 걸리지 않음
+        imageFileRepository.flush();
+
+        // 다른 곳에서도 사용 중인 이미지면 참조만 해제하고, 마지막 참조일 때만 삭제
+        // (감소와 삭제 사이에 다른 요청이 참조 수를 늘렸으면 삭제되지 않으므로 다시 감소 시도)
+        while (imageFileRepository.deleteIfLastReference(imageFileId) == 0) {
+            if (imageFileRepository.decrementReferenceCount(imageFileId) > 0) {
+                log.info("다른 곳에서 사용 중인 이미지라 참조만 해제합니다: {}", imageFileId);
+                return;
+            }
+            if (!imageFileRepository.existsById(imageFileId)) {
+                log.info("이미 삭제된 이미지입니다: {}", imageFileId);
+                return;
+            }
+        }
+
+        // 행이 실제로 삭제된 경우에만, S3 Key가 존재하면 S3에서 객체 삭제 시도
+        // (null이 아닌 경우에만 삭제 대기열에 추가)
         if (imageFile.getS3Key() != null && !imageFile.getS3Key().isEmpty()) {
-            s3Service.deleteFile(imageFile.getS3Key());
-            log.info("S3에서 파일 삭제: s3Key={}", imageFile.getS3Key());
+            objectDeletionQueue.deleteAfterCommit(s3KeysOf(imageFile));
+            log.info("S3 파일 삭제 예약(커밋 이후): s3Key={}", imageFile.getS3Key());
         } else {
             log.info("S3 키가 없어 S3에서 파일을 삭제하지 않습니다. ImageFile ID: {}", imageFileId);
         }
-
-        // DB에서 ImageFile 레코드 삭제
-        imageFileRepository.delete(imageFile);
         log.info("DB에서 ImageFile 레코드 삭제: imageFileId={}", imageFileId);
     }
 
@@ -170,6 +311,53 @@ public class ImageFileService {
         return imageFileRepository.findByDomainTypeAndDomainId(domainType, domainId);
     }
 
+    /**
+     * 이미지 원본과 축소본의 s3Key 목록
+     * - 축소본은 생성 중일 수 있으므로 생성 여부와 관계없이 모두 포함(없는 객체 삭제는 무시됨)
+     */
+    private List<String> s3KeysOf(ImageFile imageFile) {
+        List<String> s3Keys = new ArrayList<>();
+        s3Keys.add(imageFile.getS3Key());
+        for (ImageVariant variant : ImageVariant.values()) {
+            s3Keys.add(variant.keyOf(imageFile.getS3Key()));
+        }
+        return s3Keys;
+    }
+
+    /**
+     * 업로드 파일 내용의 SHA-256 계산
+     * - 서블릿이 임시 저장한 파일을 스트림으로 읽어서 메모리에 전부 올리지 않음
+     */
+    private String sha256(MultipartFile multipartFile) {
+        try (DigestInputStream in = new DigestInputStream(multipartFile.getInputStream(), newSha256Digest())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (IOException e) {
+            log.error("이미지 해시 계산 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        }
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 클라이언트 직접 업로드(Presigned URL, 스트리밍) 가능 여부 확인
+     */
+    private void validateDirectUpload(ImageDomainType domainType, String contentType) {
+        if (!DIRECT_UPLOAD_DOMAIN_TYPES.contains(domainType)) {
+            throw new IllegalArgumentException("직접 업로드할 수 없는 도메인 유형입니다: " + domainType);
+        }
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다: " + contentType);
+        }
+    }
+
     private String getS3Key(String originalFilename, ImageDomainType domainType, Long domainId) {
         String fileExtension = "";
         if (originalFilename != null && originalFilename.contains(".")) {
@@ -186,8 +374,7 @@ public class ImageFileService {
      * @return 기본 식물 이미지
      */
     public ImageFile getDefaultPlantImage() {
-        return imageFileRepository.findByS3Key(DefaultImages.DEFAULT_PLANT_IMAGE)
-                .orElseThrow(() -> new ImageFileNotFoundException("기본 식물 이미지가 존재하지 않습니다."));
+        return defaultImageRegistry.getDefaultPlantImage();
     }
 
     /**
@@ -232,12 +419,12 @@ public class ImageFileService {
 
     /**
      * ImageFileDataInitializer에서 사용
-     * - 기본 이미지들 저장
+     * - 기본 이미지들 저장(JDBC 배치 INSERT)
      *
      * @param imageFileList 저장할 기본 이미지 목록
      */
     @Transactional
     public void saveDefaultImages(List<ImageFile> imageFileList) {
-        imageFileRepository.saveAll(imageFileList);
+        imageFileJdbcRepository.saveAll(imageFileList);
     }
 }
\ No newline at end of file
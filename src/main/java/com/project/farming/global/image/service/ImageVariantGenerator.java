@@ -0,0 +1,183 @@
+package com.project.farming.global.image.service;
+
+import com.project.farming.global.image.entity.DefaultImages;
+import com.project.farming.global.image.entity.ImageFile;
+import com.project.farming.global.image.entity.ImageVariant;
+import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.storage.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 업로드된 이미지의 축소본(160/480/1080px JPEG) 생성
+ * - 커밋 이후 imageVariantExecutor에서 비동기로 생성하고, 완료되면 ImageFile에 축소본 URL 저장
+ * - 원본이 큰 경우 디코딩할 때부터 서브샘플링해서 메모리 사용량을 줄임
+ * - 픽셀 수가 MAX_SOURCE_PIXELS를 넘는 이미지(압축 폭탄 등)는 디코딩하지 않고 축소본 생성을 건너뜀
+ * - 생성에 실패하거나 작업이 버려지면 축소본 없이 원본 URL을 그대로 사용
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final long MAX_SOURCE_PIXELS = 60_000_000L; // 원본 최대 픽셀 수(가로 x 세로)
+
+    private final ObjectStorage objectStorage;
+    private final ImageFileRepository imageFileRepository;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final Executor imageVariantExecutor;
+
+    /**
+     * 축소본 생성 요청
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 요청(롤백되면 생성하지 않음)
+     *
+     * @param imageFile S3에 업로드된 이미지
+     */
+    public void generateAfterCommit(ImageFile imageFile) {
+        Long imageFileId = imageFile.getImageFileId();
+        String s3Key = imageFile.getS3Key();
+        if (s3Key == null || DefaultImages.isDefaultImage(s3Key)) return;
+
+        Runnable task = () -> generate(imageFileId, s3Key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    imageVariantExecutor.execute(task);
+                }
+            });
+        } else {
+            imageVariantExecutor.execute(task);
+        }
+    }
+
+    private void generate(Long imageFileId, String s3Key) {
+        long start = System.currentTimeMillis();
+        BufferedImage source;
+        try {
+            source = readImage(s3Key);
+        } catch (Exception e) {
+            log.warn("축소본 생성을 위한 이미지 읽기 실패: {}. 오류: {}", s3Key, e.getMessage());
+            return;
+        }
+        if (source == null) {
+            log.info("축소본을 만들 수 없는 이미지 형식입니다: {}", s3Key);
+            return;
+        }
+
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        try {
+            // 큰 크기부터 줄여 가며 다음 축소본의 원본으로 사용
+            BufferedImage current = source;
+            for (ImageVariant variant : new ImageVariant[]{ImageVariant.LARGE, ImageVariant.MEDIUM, ImageVariant.SMALL}) {
+                current = resize(current, variant.getWidth());
+                urls.put(variant, objectStorage.uploadBytes(encodeJpeg(current), variant.keyOf(s3Key), "image/jpeg"));
+            }
+        } catch (Exception e) {
+            log.warn("이미지 축소본 생성 실패: {}. 오류: {}", s3Key, e.getMessage());
+            objectDeletionQueue.deleteAfterCommit(urls.keySet().stream().map(variant -> variant.keyOf(s3Key)).toList());
+            return;
+        }
+
+        int updated = imageFileRepository.updateVariantUrls(imageFileId, s3Key,
+                urls.get(ImageVariant.SMALL), urls.get(ImageVariant.MEDIUM), urls.get(ImageVariant.LARGE));
+        if (updated == 0) {
+            // 생성 중에 이미지가 교체/삭제된 경우
+            objectDeletionQueue.deleteAfterCommit(urls.keySet().stream().map(variant -> variant.keyOf(s3Key)).toList());
+            return;
+        }
+        log.debug("이미지 축소본 생성 완료: {} ({}ms)", s3Key, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * S3에서 이미지를 읽어서 디코딩
+     * - 헤더에서 가로/세로 길이를 먼저 읽고, 픽셀 수가 MAX_SOURCE_PIXELS를 넘으면 디코딩하지 않음
+     * - 원본의 긴 변이 가장 큰 축소본의 2배 이상이면 정수배로 서브샘플링해서 읽음
+     *
+     * @return 디코딩된 이미지(지원하지 않는 형식이면 null)
+     * @throws IOException 읽기에 실패했거나 픽셀 수가 너무 많은 경우
+     */
+    private BufferedImage readImage(String s3Key) throws IOException {
+        try (InputStream in = objectStorage.openStream(s3Key);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("이미지 픽셀 수가 너무 많습니다: " + width + "x" + height);
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / ImageVariant.LARGE.getWidth());
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로 길이가 width가 되도록 비율을 유지해서 축소(원본이 더 작으면 크기 유지)
+     * - JPEG로 저장하기 위해 투명 영역은 흰색으로 채움
+     */
+    private BufferedImage resize(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
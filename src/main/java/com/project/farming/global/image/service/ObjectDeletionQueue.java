@@ -0,0 +1,142 @@
+package com.project.farming.global.image.service;
+
+import com.project.farming.global.image.storage.ObjectStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 저장소 객체 삭제 대기열
+ * - 트랜잭션 안에서 요청된 삭제는 커밋 이후에만 대기열에 추가(롤백되면 삭제하지 않음)
+ * - 대기열은 주기적으로 최대 1,000개씩 한 번에 삭제해서 요청 처리 시간에 저장소 왕복이 포함되지 않음
+ * - 삭제에 실패한 객체는 다음 주기에 다시 삭제(최대 MAX_ATTEMPTS회)
+ * - 재시도 횟수를 넘겼거나 서버 종료로 처리하지 못한 객체는 로그로 남기며, OrphanObjectSweeper(켜져 있는 경우)가 나중에 정리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ObjectDeletionQueue {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ObjectStorage objectStorage;
+
+    private final Queue<PendingKey> pendingKeys = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 저장소 객체 삭제 요청
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 대기열에 추가
+     *
+     * @param s3Keys 삭제할 객체의 s3Key 목록
+     */
+    public void deleteAfterCommit(Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) return;
+        List<PendingKey> keys = s3Keys.stream().map(s3Key -> new PendingKey(s3Key, 0)).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingKeys.addAll(keys);
+                }
+            });
+        } else {
+            pendingKeys.addAll(keys);
+        }
+    }
+
+    public void deleteAfterCommit(String s3Key) {
+        deleteAfterCommit(List.of(s3Key));
+    }
+
+    /**
+     * 대기 중인 객체를 1,000개씩 나눠서 삭제
+     * - 실패한 객체는 이번 처리가 끝난 뒤 대기열에 다시 추가해서 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${image.delete.flush-interval-ms:5000}")
+    public void flush() {
+        List<PendingKey> retries = drain();
+        pendingKeys.addAll(retries);
+    }
+
+    /**
+     * 서버 종료 시 남은 객체 삭제(재시도하지 않음)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        List<PendingKey> failed = drain();
+        if (!failed.isEmpty()) {
+            log.error("서버 종료로 저장소 객체 {}개를 삭제하지 못했습니다: {}",
+                    failed.size(), failed.stream().map(PendingKey::s3Key).toList());
+        }
+    }
+
+    /**
+     * 현재 대기열을 비우면서 삭제
+     *
+     * @return 다시 시도할 객체 목록
+     */
+    private List<PendingKey> drain() {
+        int deleted = 0;
+        List<PendingKey> retries = new ArrayList<>();
+        List<PendingKey> batch = new ArrayList<>(ObjectStorage.MAX_DELETE_KEYS);
+        PendingKey pendingKey;
+        while ((pendingKey = pendingKeys.poll()) != null) {
+            batch.add(pendingKey);
+            if (batch.size() == ObjectStorage.MAX_DELETE_KEYS) {
+                deleted += deleteBatch(batch, retries);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += deleteBatch(batch, retries);
+        }
+        if (deleted > 0) {
+            log.debug("저장소 삭제 대기열 처리: {}개", deleted);
+        }
+        return retries;
+    }
+
+    private int deleteBatch(List<PendingKey> batch, List<PendingKey> retries) {
+        List<String> s3Keys = batch.stream().map(PendingKey::s3Key).toList();
+        Set<String> failed;
+        try {
+            failed = new HashSet<>(objectStorage.deleteFiles(s3Keys));
+        } catch (RuntimeException e) {
+            log.warn("저장소 객체 {}개 삭제 중 오류 발생: {}", s3Keys.size(), e.getMessage());
+            failed = new HashSet<>(s3Keys);
+        }
+        if (failed.isEmpty()) return batch.size();
+
+        List<String> givenUp = new ArrayList<>();
+        for (PendingKey key : batch) {
+            if (!failed.contains(key.s3Key())) continue;
+            if (key.attempts() + 1 < MAX_ATTEMPTS) {
+                retries.add(new PendingKey(key.s3Key(), key.attempts() + 1));
+            } else {
+                givenUp.add(key.s3Key());
+            }
+        }
+        if (givenUp.size() < failed.size()) {
+            log.warn("저장소 객체 {}개 삭제 실패, 다음 주기에 다시 삭제합니다.", failed.size() - givenUp.size());
+        }
+        if (!givenUp.isEmpty()) {
+            log.error("저장소 객체 {}개를 {}회 시도했지만 삭제하지 못했습니다: {}", givenUp.size(), MAX_ATTEMPTS, givenUp);
+        }
+        return batch.size() - failed.size();
+    }
+
+    private record PendingKey(String s3Key, int attempts) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.farming.global.image.service;
+
+import com.project.farming.global.image.entity.ImageDomainType;
+import com.project.farming.global.image.entity.ImageVariant;
+import com.project.farming.global.image.repository.ImageFileRepository;
+import com.project.farming.global.image.storage.ObjectStorage;
+import com.project.farming.global.image.storage.StoredObject;
+import com.project.farming.global.image.storage.StoredObjectPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 저장소와 image_files를 비교해서 DB에 없는 이미지 객체(고아 객체) 삭제
+ * - 업로드된 이미지 경로({도메인 유형}/...)만 검사하고, 기본 이미지 등 다른 경로는 건드리지 않음
+ * - 축소본은 원본 s3Key가 DB에 있으면 유지
+ * - 업로드 중이거나 방금 업로드된 객체와 겹치지 않도록 일정 시간(grace) 이전에 만들어진 객체만 삭제
+ * - 목록은 1,000개씩 조회하고, 페이지마다 IN 쿼리 한 번으로 DB와 비교
+ *
+ * 주의: 버킷을 소유한 DB(운영 DB)에 연결된 서버에서만 켜야 함
+ * - 다른 DB를 쓰는 개발/스테이징 서버가 같은 버킷을 보면 운영 이미지를 모두 고아 객체로 판단함
+ * - image.orphan-sweep.enabled=true일 때만 등록되고(기본값 false),
+ *   image.orphan-sweep.dry-run=false로 바꾸기 전까지는 삭제 대상을 로그로만 남김
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.orphan-sweep.enabled", havingValue = "true")
+@Component
+public class OrphanObjectSweeper {
+
+    private final ObjectStorage objectStorage;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final ImageFileRepository imageFileRepository;
+
+    @Value("${image.orphan-sweep.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${image.orphan-sweep.dry-run:true}")
+    private boolean dryRun;
+
+    /**
+     * 매일 오전 4시에 고아 객체 삭제(dry-run이면 삭제 대상만 로그로 기록)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+        int scanned = 0;
+        int orphaned = 0;
+        for (ImageDomainType domainType : ImageDomainType.values()) {
+            String prefix = domainType.name().toLowerCase(Locale.ROOT) + "/";
+            String continuationToken = null;
+            do {
+                StoredObjectPage page = objectStorage.listFiles(prefix, continuationToken);
+                List<String> orphans = findOrphans(page.objects(), cutoff);
+                if (dryRun) {
+                    if (!orphans.isEmpty()) log.info("[dry-run] 고아 객체 {}개: {}", orphans.size(), orphans);
+                } else {
+                    objectDeletionQueue.deleteAfterCommit(orphans);
+                }
+                scanned += page.objects().size();
+                orphaned += orphans.size();
+                continuationToken = page.nextContinuationToken();
+            } while (continuationToken != null);
+        }
+        log.info("저장소 고아 객체 정리{}: {}개 검사, 고아 객체 {}개", dryRun ? "(dry-run)" : "", scanned, orphaned);
+    }
+
+    private List<String> findOrphans(List<StoredObject> objects, Instant cutoff) {
+        List<StoredObject> candidates = objects.stream()
+                .filter(object -> object.lastModified().isBefore(cutoff))
+                .toList();
+        if (candidates.isEmpty()) return List.of();
+
+        Set<String> originalKeys = new HashSet<>();
+        candidates.forEach(object -> originalKeys.add(ImageVariant.originalKeyOf(object.key())));
+        Set<String> existingKeys = new HashSet<>(imageFileRepository.findS3KeysByS3KeyIn(originalKeys));
+
+        return candidates.stream()
+                .map(StoredObject::key)
+                .filter(key -> !existingKeys.contains(ImageVariant.originalKeyOf(key)))
+                .toList();
+    }
+}
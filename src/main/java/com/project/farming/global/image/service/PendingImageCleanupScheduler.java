@@ -0,0 +1,37 @@
+package com.project.farming.global.image.service;
+
+import com.project.farming.global.image.entity.ImageFile;
+import com.project.farming.global.image.repository.ImageFileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Presigned URL을 발급받고 도메인 엔티티에 연결되지 않은 채 만료된 이미지 정리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PendingImageCleanupScheduler {
+
+    private final ImageFileRepository imageFileRepository;
+    private final ObjectDeletionQueue objectDeletionQueue;
+
+    /**
+     * 매시 30분에 만료된 업로드 대기 이미지를 S3와 DB에서 삭제(한 번에 최대 500개)
+     */
+    @Transactional
+    @Scheduled(cron = "0 30 * * * *")
+    public void deleteExpiredPendingImages() {
+        List<ImageFile> expired = imageFileRepository.findTop500ByPendingExpiresAtBefore(LocalDateTime.now());
+        if (expired.isEmpty()) return;
+        objectDeletionQueue.deleteAfterCommit(expired.stream().map(ImageFile::getS3Key).toList());
+        imageFileRepository.deleteAllInBatch(expired);
+        log.info("만료된 업로드 대기 이미지 {}개 삭제", expired.size());
+    }
+}
@@ -0,0 +1,319 @@
+package com.project.farming.global.image.storage;
+
+import com.project.farming.global.exception.ImageFileNotFoundException;
+import com.project.farming.global.exception.ImageUploadException;
+import com.project.farming.global.image.entity.DefaultImages;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일 시스템 저장소(storage.type=local, 개발/단일 서버용)
+ * - key를 루트 디렉터리 아래의 파일 경로로 사용
+ * - 쓰기: 임시 파일에 FileChannel.transferFrom으로 받은 뒤 원자적으로 이동(읽는 쪽에서 쓰는 중인 파일이 보이지 않음)
+ * - 읽기: FileChannel.transferTo로 복사(대상이 파일/소켓 채널이면 커널에서 바로 복사되어 힙 버퍼를 거치지 않음)
+ * - 파일 URL과 업로드 URL은 LocalStorageController(/local-storage/**)가 처리
+ */
+@Slf4j
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Service
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final long TRANSFER_CHUNK_BYTES = 8L * 1024 * 1024;
+    private static final String TEMP_DIR_NAME = ".uploads"; // 도메인 경로({도메인 유형}/...)와 겹치지 않는 임시 파일 경로
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    @Value("${storage.local.root-dir:${java.io.tmpdir}/farming-storage}")
+    private String rootDirPath;
+
+    @Value("${storage.local.base-url:http://localhost:8080/local-storage}")
+    private String baseUrl;
+
+    // 비어 있으면 서버 시작 시 임의로 생성(재시작하면 이전에 발급한 업로드 URL은 사용할 수 없음)
+    @Value("${storage.local.signing-secret:}")
+    private String signingSecret;
+
+    private Path rootDir;
+    private Path tempDir;
+    private byte[] signingKey;
+
+    @PostConstruct
+    void init() throws IOException {
+        rootDir = Paths.get(rootDirPath).toAbsolutePath().normalize();
+        tempDir = rootDir.resolve(TEMP_DIR_NAME);
+        Files.createDirectories(tempDir);
+        if (signingSecret.isBlank()) {
+            signingKey = new byte[32];
+            new SecureRandom().nextBytes(signingKey);
+        } else {
+            signingKey = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.info("로컬 파일 저장소 사용: {}", rootDir);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String key) {
+        try (InputStream in = file.getInputStream()) {
+            return uploadStream(in, key, file.getContentType(), Long.MAX_VALUE);
+        } catch (IOException e) {
+            log.error("로컬 파일 저장 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 스트림을 임시 파일에 저장한 뒤 key 경로로 이동
+     * - transferFrom으로 한 번에 최대 8MB씩 받고, maxBytes를 넘으면 임시 파일을 지우고 중단
+     */
+    @Override
+    public String uploadStream(InputStream in, String key, String contentType, long maxBytes) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "upload-", ".part");
+            ReadableByteChannel source = Channels.newChannel(in);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                do {
+                    long limit = Math.min(TRANSFER_CHUNK_BYTES, maxBytes - position) + 1; // 제한을 넘는지 확인하기 위해 1바이트 더 읽음
+                    transferred = channel.transferFrom(source, position, limit);
+                    position += transferred;
+                    if (position > maxBytes) {
+                        log.error("업로드 크기 제한 초과: {} (최대 {} bytes)", key, maxBytes);
+                        throw new IllegalArgumentException("이미지 파일이 너무 큽니다.");
+                    }
+                } while (transferred > 0);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException e) {
+            log.error("로컬 파일 저장 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        } finally {
+            deleteQuietly(temp);
+        }
+        return getFileUrl(key);
+    }
+
+    @Override
+    public String uploadBytes(byte[] bytes, String key, String contentType) {
+        return uploadStream(new ByteArrayInputStream(bytes), key, contentType, bytes.length);
+    }
+
+    /**
+     * LocalStorageController로 PUT 요청할 수 있는 서명된 URL 생성
+     * - 서명 대상: key, Content-Type, Content-Length, 만료 시각
+     */
+    @Override
+    public String generateUploadUrl(String key, String contentType, long contentLength, Date expiration) {
+        long expires = expiration.getTime() / 1000;
+        return getFileUrl(key) + "?expires=" + expires
+                + "&signature=" + sign(key, contentType, contentLength, expires);
+    }
+
+    @Override
+    public String getFileUrl(String key) {
+        return baseUrl + "/" + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public StoredObject findMetadata(String key) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) return null;
+            return new StoredObject(key, attributes.size(), guessContentType(key),
+                    attributes.lastModifiedTime().toInstant());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.error("로컬 파일 정보 조회 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("업로드된 이미지를 확인하지 못했습니다.");
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new ImageFileNotFoundException("존재하지 않는 이미지 파일입니다: " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean copyTo(String key, OutputStream out) throws IOException {
+        try {
+            transferTo(key, Channels.newChannel(out));
+            return true;
+        } catch (NoSuchFileException e) {
+            log.warn("로컬 파일 조회 실패: {}", key);
+            return false;
+        }
+    }
+
+    /**
+     * 파일 내용을 채널로 복사(FileChannel.transferTo)
+     *
+     * @return 복사한 바이트 수
+     * @throws NoSuchFileException 파일이 없는 경우
+     */
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * key에 해당하는 파일 경로(파일이 없을 수도 있음)
+     */
+    public Path getPath(String key) {
+        return resolve(key);
+    }
+
+    @Override
+    public List<String> deleteFiles(List<String> keys) {
+        if (keys.size() > MAX_DELETE_KEYS) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_DELETE_KEYS + "개입니다.");
+        }
+        List<String> failed = new ArrayList<>();
+        int deleted = 0;
+        for (String key : keys) {
+            if (DefaultImages.isDefaultImage(key)) continue;
+            try {
+                Files.deleteIfExists(resolve(key));
+                deleted++;
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("로컬 파일 삭제 실패: {}. 오류: {}", key, e.getMessage());
+                failed.add(key);
+            }
+        }
+        if (deleted > 0) {
+            log.info("로컬 저장소에서 이미지 파일 {}개 삭제", deleted);
+        }
+        return failed;
+    }
+
+    /**
+     * prefix 경로 아래의 파일을 key 순서로 조회
+     * - 다음 페이지 토큰은 이번 페이지의 마지막 key
+     */
+    @Override
+    public StoredObjectPage listFiles(String prefix, String continuationToken) {
+        Path dir = resolve(prefix);
+        if (!Files.isDirectory(dir)) return new StoredObjectPage(List.of(), null);
+
+        List<StoredObject> objects;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            objects = paths
+                    .filter(Files::isRegularFile)
+                    .map(this::keyOf)
+                    .filter(key -> continuationToken == null || key.compareTo(continuationToken) > 0)
+                    .sorted()
+                    .limit(MAX_DELETE_KEYS + 1L)
+                    .map(this::findMetadata)
+                    .filter(object -> object != null)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (objects.size() <= MAX_DELETE_KEYS) return new StoredObjectPage(objects, null);
+        List<StoredObject> page = objects.subList(0, MAX_DELETE_KEYS);
+        return new StoredObjectPage(page, page.get(page.size() - 1).key());
+    }
+
+    /**
+     * 업로드 URL의 서명 확인
+     *
+     * @return 서명이 맞고 만료되지 않았으면 true
+     */
+    public boolean verifyUploadSignature(String key, String contentType, long contentLength, long expires, String signature) {
+        if (expires < System.currentTimeMillis() / 1000) return false;
+        return MessageDigest.isEqual(
+                sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(signingKey, SIGNATURE_ALGORITHM));
+            byte[] signature = mac.doFinal((key + "\n" + contentType + "\n" + contentLength + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(SIGNATURE_ALGORITHM + "를 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * key를 루트 디렉터리 아래의 경로로 변환(루트 밖이나 임시 파일 경로를 가리키면 거부)
+     */
+    private Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir) || path.startsWith(tempDir)) {
+            log.error("잘못된 저장소 key입니다: {}", key);
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    private String keyOf(Path path) {
+        return rootDir.relativize(path).toString().replace('\\', '/');
+    }
+
+    private String guessContentType(String key) {
+        String contentType = URLConnection.guessContentTypeFromName(key);
+        return contentType != null ? contentType : "application/octet-stream";
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.farming.global.image.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 이미지 파일 저장소
+ * - storage.type 설정으로 구현체 선택: s3(기본값, S3ObjectStorage), local(LocalObjectStorage)
+ * - key는 저장소 안에서의 객체 경로(ImageFile의 s3Key)
+ */
+public interface ObjectStorage {
+
+    int MAX_DELETE_KEYS = 1_000; // deleteFiles 한 번에 삭제할 수 있는 최대 객체 수
+
+    /**
+     * 업로드된 파일 저장
+     *
+     * @return 저장된 객체의 URL
+     */
+    String uploadFile(MultipartFile file, String key);
+
+    /**
+     * 스트림을 버퍼링하지 않고 저장
+     *
+     * @param in 저장할 내용(닫지 않음)
+     * @param maxBytes 허용하는 최대 크기(넘으면 IllegalArgumentException)
+     * @return 저장된 객체의 URL
+     */
+    String uploadStream(InputStream in, String key, String contentType, long maxBytes);
+
+    /**
+     * 서버에서 생성한 파일(예: 이미지 축소본) 저장
+     *
+     * @return 저장된 객체의 URL
+     */
+    String uploadBytes(byte[] bytes, String key, String contentType);
+
+    /**
+     * 클라이언트가 직접 업로드할 수 있는 PUT용 URL 생성
+     * - 업로드 요청의 Content-Type/Content-Length는 contentType/contentLength와 같아야 함(다르면 저장소가 거부)
+     */
+    String generateUploadUrl(String key, String contentType, long contentLength, Date expiration);
+
+    String getFileUrl(String key);
+
+    /**
+     * 객체 정보 조회(내용은 읽지 않음)
+     *
+     * @return 객체 정보(객체가 없으면 null)
+     */
+    StoredObject findMetadata(String key);
+
+    /**
+     * 객체 내용을 읽는 스트림 반환(사용 후 반드시 닫아야 함)
+     */
+    InputStream openStream(String key);
+
+    /**
+     * 객체를 메모리에 올리지 않고 OutputStream으로 복사
+     *
+     * @return 복사 성공 여부(객체가 없거나 읽을 수 없으면 false)
+     */
+    boolean copyTo(String key, OutputStream out) throws IOException;
+
+    /**
+     * 여러 객체 삭제(최대 MAX_DELETE_KEYS개, 기본 이미지는 삭제하지 않음)
+     *
+     * @return 삭제에 실패한 key 목록
+     */
+    List<String> deleteFiles(List<String> keys);
+
+    /**
+     * 객체 목록을 페이지 단위(최대 MAX_DELETE_KEYS개)로 조회
+     *
+     * @param prefix 조회할 key 접두사
+     * @param continuationToken 이전 페이지의 다음 토큰(첫 페이지는 null)
+     */
+    StoredObjectPage listFiles(String prefix, String continuationToken);
+}
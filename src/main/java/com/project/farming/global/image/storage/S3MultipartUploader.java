@@ -0,0 +1,219 @@
+package com.project.farming.global.image.storage;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.project.farming.global.exception.ImageUploadException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트림을 S3에 업로드
+ * - 한 파트 크기보다 작으면 PUT 한 번으로 업로드
+ * - 크면 S3 멀티파트 업로드로 파트를 읽는 대로 병렬 전송(동시에 전송 중인 파트 수 제한)
+ *   → 업로드 하나당 메모리 사용량은 최대 (동시 전송 파트 수 + 1) x 파트 크기
+ * - 실패하면 멀티파트 업로드를 중단(abort)해서 S3에 조각이 남지 않게 함
+ * - 업로드 시간(image.upload.duration)과 크기(image.upload.size)를 메트릭으로 기록
+ */
+@Slf4j
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@Component
+public class S3MultipartUploader {
+
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 멀티파트 업로드의 최소 파트 크기
+
+    private final AmazonS3 amazonS3;
+    private final Executor s3PartUploadExecutor;
+    private final Timer singleUploadTimer;
+    private final Timer multipartUploadTimer;
+    private final DistributionSummary uploadSize;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${image.upload.part-size-bytes:8388608}")
+    private int partSize;
+
+    @Value("${image.upload.max-parallel-parts:3}")
+    private int maxParallelParts;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Qualifier("s3PartUploadExecutor") Executor s3PartUploadExecutor,
+                               MeterRegistry meterRegistry) {
+        this.amazonS3 = amazonS3;
+        this.s3PartUploadExecutor = s3PartUploadExecutor;
+        this.singleUploadTimer = Timer.builder("image.upload.duration")
+                .description("S3 이미지 업로드 시간")
+                .tag("method", "single")
+                .register(meterRegistry);
+        this.multipartUploadTimer = Timer.builder("image.upload.duration")
+                .description("S3 이미지 업로드 시간")
+                .tag("method", "multipart")
+                .register(meterRegistry);
+        this.uploadSize = DistributionSummary.builder("image.upload.size")
+                .description("S3에 업로드한 이미지 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트림을 끝까지 읽어서 S3에 업로드
+     *
+     * @param in 업로드할 내용(닫지 않음)
+     * @param s3Key 업로드될 객체의 s3Key
+     * @param contentType Content-Type
+     * @param maxBytes 허용하는 최대 크기(넘으면 업로드를 중단하고 예외 발생)
+     * @return 업로드한 크기(bytes)
+     */
+    public long upload(InputStream in, String s3Key, String contentType, long maxBytes) {
+        long start = System.nanoTime();
+        int size = Math.max(partSize, MIN_PART_SIZE);
+        byte[] first = readPart(in, size);
+        if (first.length < size) {
+            checkSize(first.length, maxBytes, s3Key);
+            putObject(first, s3Key, contentType);
+            record(singleUploadTimer, first.length, start, s3Key);
+            return first.length;
+        }
+        long total = uploadMultipart(in, first, size, s3Key, contentType, maxBytes);
+        record(multipartUploadTimer, total, start, s3Key);
+        return total;
+    }
+
+    private void putObject(byte[] bytes, String s3Key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(bytes.length);
+        try {
+            amazonS3.putObject(bucketName, s3Key, new ByteArrayInputStream(bytes), metadata);
+        } catch (AmazonServiceException e) {
+            log.error("S3 파일 업로드 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        }
+    }
+
+    private long uploadMultipart(InputStream in, byte[] first, int size,
+                                 String s3Key, String contentType, long maxBytes) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, s3Key, metadata)).getUploadId();
+
+        Semaphore inFlight = new Semaphore(Math.max(1, maxParallelParts));
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        long total = 0;
+        try {
+            byte[] part = first;
+            for (int partNumber = 1; part.length > 0; partNumber++) {
+                total += part.length;
+                checkSize(total, maxBytes, s3Key);
+                inFlight.acquire();
+                throwIfAnyPartFailed(parts);
+                parts.add(uploadPart(uploadId, s3Key, partNumber, part, inFlight));
+                if (part.length < size) break;
+                // 다음 파트를 읽기 전에 실패한 파트가 있으면 나머지 스트림을 읽지 않고 중단(전송은 다른 스레드에서 진행)
+                throwIfAnyPartFailed(parts);
+                part = readPart(in, size);
+            }
+            List<PartETag> eTags = parts.stream().map(CompletableFuture::join).toList();
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, s3Key, uploadId, eTags));
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(uploadId, s3Key, parts);
+            throw new ImageUploadException("이미지 업로드가 중단되었습니다.");
+        } catch (RuntimeException e) {
+            abort(uploadId, s3Key, parts);
+            if (e instanceof CompletionException || e instanceof AmazonServiceException) {
+                log.error("S3 멀티파트 업로드 중 오류 발생: {}", e.getMessage());
+                throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPart(String uploadId, String s3Key, int partNumber,
+                                                   byte[] part, Semaphore inFlight) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucketName)
+                .withKey(s3Key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(part))
+                .withPartSize(part.length);
+        return CompletableFuture
+                .supplyAsync(() -> amazonS3.uploadPart(request).getPartETag(), s3PartUploadExecutor)
+                .whenComplete((eTag, e) -> inFlight.release());
+    }
+
+    /**
+     * 이미 실패한 파트가 있으면 그 예외(CompletionException)를 던짐
+     */
+    private void throwIfAnyPartFailed(List<CompletableFuture<PartETag>> parts) {
+        for (CompletableFuture<PartETag> part : parts) {
+            if (part.isCompletedExceptionally()) part.join();
+        }
+    }
+
+    private void abort(String uploadId, String s3Key, List<CompletableFuture<PartETag>> parts) {
+        // 전송 중인 파트가 끝난 뒤에 중단해야 조각이 남지 않음
+        parts.forEach(part -> part.exceptionally(e -> null).join());
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, s3Key, uploadId));
+        } catch (AmazonServiceException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패: {}. 오류: {}", s3Key, e.getMessage());
+        }
+    }
+
+    /**
+     * 스트림에서 최대 size만큼 읽기(스트림이 끝나면 그보다 짧음)
+     */
+    private byte[] readPart(InputStream in, int size) {
+        try {
+            return in.readNBytes(size);
+        } catch (IOException e) {
+            log.error("업로드 스트림 읽기 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        }
+    }
+
+    private void checkSize(long size, long maxBytes, String s3Key) {
+        if (size > maxBytes) {
+            log.error("업로드 가능한 크기를 초과했습니다: {} ({} bytes 이상)", s3Key, size);
+            throw new IllegalArgumentException("이미지 크기가 너무 큽니다.");
+        }
+    }
+
+    private void record(Timer timer, long bytes, long startNanos, String s3Key) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        uploadSize.record(bytes);
+        if (log.isDebugEnabled()) {
+            double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+            log.debug("S3 업로드 완료: {} ({} bytes, {}ms, {} MB/s)", s3Key, bytes,
+                    elapsedNanos / 1_000_000, String.format("%.2f", bytes / seconds / (1024 * 1024)));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.project.farming.global.image.storage;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.project.farming.global.exception.ImageUploadException;
+import com.project.farming.global.image.entity.DefaultImages;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * S3 저장소(storage.type=s3, 기본값)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@Service
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Override
+    public String uploadFile(MultipartFile file, String s3Key) {
+        try (InputStream in = file.getInputStream()) {
+            s3MultipartUploader.upload(in, s3Key, file.getContentType(), Long.MAX_VALUE);
+        } catch (IOException e) {
+            log.error("S3 파일 업로드 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        }
+        return amazonS3.getUrl(bucketName, s3Key).toString();
+    }
+
+    /**
+     * 요청 본문 등의 스트림을 버퍼링하지 않고 바로 S3에 업로드(큰 파일은 멀티파트 병렬 업로드)
+     *
+     * @param in 업로드할 내용(닫지 않음)
+     * @param s3Key 업로드될 객체의 s3Key
+     * @param contentType Content-Type
+     * @param maxBytes 허용하는 최대 크기
+     * @return 업로드된 객체의 URL
+     */
+    @Override
+    public String uploadStream(InputStream in, String s3Key, String contentType, long maxBytes) {
+        s3MultipartUploader.upload(in, s3Key, contentType, maxBytes);
+        return amazonS3.getUrl(bucketName, s3Key).toString();
+    }
+
+    /**
+     * 서버에서 생성한 파일(예: 이미지 축소본) 업로드
+     * - 축소본은 내용이 바뀌지 않으므로 오래 캐싱하도록 Cache-Control 설정
+     *
+     * @param bytes 업로드할 내용
+     * @param s3Key 업로드될 객체의 s3Key
+     * @param contentType Content-Type
+     * @return 업로드된 객체의 URL
+     */
+    @Override
+    public String uploadBytes(byte[] bytes, String s3Key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(bytes.length);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+
+        try {
+            amazonS3.putObject(bucketName, s3Key, new ByteArrayInputStream(bytes), metadata);
+        } catch (AmazonServiceException e) {
+            log.error("S3 파일 업로드 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("이미지 업로드에 실패했습니다.");
+        }
+        return amazonS3.getUrl(bucketName, s3Key).toString();
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 수 있는 PUT용 Presigned URL 생성
+     * - 업로드 요청의 Content-Type은 contentType과 같아야 함
+     * - Content-Length를 서명에 포함해서, 발급 시 검증한 크기와 다른 파일은 S3가 거부(403)
+     *
+     * @param s3Key 업로드될 객체의 s3Key
+     * @param contentType 업로드할 파일의 Content-Type
+     * @param contentLength 업로드할 파일의 크기(byte)
+     * @param expiration URL 만료 시각
+     * @return Presigned URL
+     */
+    @Override
+    public String generateUploadUrl(String s3Key, String contentType, long contentLength, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, s3Key, HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(expiration);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    @Override
+    public String getFileUrl(String s3Key) {
+        return amazonS3.getUrl(bucketName, s3Key).toString();
+    }
+
+    /**
+     * S3 객체의 메타데이터 조회(HEAD 요청, 본문은 받지 않음)
+     *
+     * @param s3Key 조회할 객체의 s3Key
+     * @return 객체 정보(객체가 없으면 null)
+     */
+    @Override
+    public StoredObject findMetadata(String s3Key) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucketName, s3Key);
+            return new StoredObject(s3Key, metadata.getContentLength(), metadata.getContentType(),
+                    metadata.getLastModified() != null ? metadata.getLastModified().toInstant() : null);
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) return null;
+            log.error("S3 파일 메타데이터 조회 중 오류 발생: {}", e.getMessage());
+            throw new ImageUploadException("업로드된 이미지를 확인하지 못했습니다.");
+        }
+    }
+
+    /**
+     * S3 객체 내용을 읽는 스트림 반환(사용 후 반드시 닫아야 함)
+     *
+     * @param s3Key 읽을 객체의 s3Key
+     * @return 객체 내용 스트림
+     */
+    @Override
+    public InputStream openStream(String s3Key) {
+        return amazonS3.getObject(bucketName, s3Key).getObjectContent();
+    }
+
+    /**
+     * S3 객체를 메모리에 올리지 않고 OutputStream으로 복사
+     *
+     * @param s3Key 복사할 객체의 s3Key
+     * @param out 복사할 대상
+     * @return 복사 성공 여부(객체가 없거나 읽을 수 없으면 false)
+     */
+    @Override
+    public boolean copyTo(String s3Key, OutputStream out) throws IOException {
+        try (S3Object object = amazonS3.getObject(bucketName, s3Key);
+             S3ObjectInputStream in = object.getObjectContent()) {
+            in.transferTo(out);
+            return true;
+        } catch (AmazonServiceException e) {
+            log.warn("S3 파일 조회 실패: {}. 오류: {}", s3Key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 여러 S3 객체를 한 번의 요청으로 삭제(최대 1,000개)
+     * - 기본 이미지는 삭제하지 않음
+     *
+     * @param s3Keys 삭제할 객체의 s3Key 목록
+     * @return 삭제에 실패한 s3Key 목록
+     */
+    @Override
+    public List<String> deleteFiles(List<String> s3Keys) {
+        List<KeyVersion> keys = s3Keys.stream()
+                .filter(s3Key -> !DefaultImages.isDefaultImage(s3Key))
+                .map(KeyVersion::new)
+                .toList();
+        if (keys.isEmpty()) return List.of();
+        if (keys.size() > MAX_DELETE_KEYS) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_DELETE_KEYS + "개입니다.");
+        }
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(keys).withQuiet(true));
+            log.info("S3에서 이미지 객체 {}개 삭제", keys.size());
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            List<String> failed = e.getErrors().stream().map(MultiObjectDeleteException.DeleteError::getKey).toList();
+            log.warn("S3 파일 일부 삭제 실패: {}개 중 {}개. 오류: {}", keys.size(), failed.size(), e.getMessage());
+            return failed;
+        } catch (SdkClientException e) {
+            // S3 오류 응답(AmazonServiceException)과 네트워크/타임아웃 오류 모두 전체 실패로 처리
+            log.warn("S3 파일 삭제 실패: {}개. 오류: {}", keys.size(), e.getMessage());
+            return keys.stream().map(KeyVersion::getKey).toList();
+        }
+    }
+
+    /**
+     * 버킷의 객체 목록을 페이지 단위(최대 1,000개)로 조회
+     *
+     * @param prefix 조회할 s3Key 접두사
+     * @param continuationToken 이전 페이지의 다음 토큰(첫 페이지는 null)
+     * @return 객체 목록 페이지
+     */
+    @Override
+    public StoredObjectPage listFiles(String prefix, String continuationToken) {
+        ListObjectsV2Result result = amazonS3.listObjectsV2(new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withContinuationToken(continuationToken));
+        List<StoredObject> objects = result.getObjectSummaries().stream()
+                .map(summary -> new StoredObject(summary.getKey(), summary.getSize(), null,
+                        summary.getLastModified().toInstant()))
+                .toList();
+        return new StoredObjectPage(objects, result.isTruncated() ? result.getNextContinuationToken() : null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.farming.global.image.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소의 객체 정보
+ */
+public record StoredObject(String key, long size, String contentType, Instant lastModified) {
+}
@@ -0,0 +1,11 @@
+package com.project.farming.global.image.storage;
+
+import java.util.List;
+
+/**
+ * 저장소 객체 목록의 한 페이지
+ *
+ * @param nextContinuationToken 다음 페이지 토큰(마지막 페이지면 null)
+ */
+public record StoredObjectPage(List<StoredObject> objects, String nextContinuationToken) {
+}
@@ -0,0 +1,59 @@
+package com.project.farming.global.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * JdbcTemplate 기반 대량 INSERT/UPDATE
+ * - IDENTITY 전략 엔티티를 saveAll로 저장하면 행마다 INSERT가 한 번씩 실행되므로,
+ *   대량 저장 경로에서는 이 클래스로 BATCH_SIZE 단위 배치 INSERT 실행
+ * - 저장된 행의 ID는 엔티티에 채워지지 않으므로 저장 후 ID가 필요 없는 경우에만 사용
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JdbcBatchWriter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 INSERT 실행
+     *
+     * @param sql 실행할 INSERT 문
+     * @param items 저장할 데이터 목록
+     * @param setter 각 데이터를 PreparedStatement 파라미터로 설정하는 함수
+     * @return 저장된 행 수
+     */
+    public <T> int batchInsert(String sql, Collection<T> items, ParameterizedPreparedStatementSetter<T> setter) {
+        return execute("INSERT", sql, items, setter);
+    }
+
+    /**
+     * 배치 UPDATE 실행
+     * - 엔티티를 거치지 않으므로 @PreUpdate 등 엔티티 콜백이 실행되지 않음
+     *
+     * @param sql 실행할 UPDATE 문
+     * @param items 변경할 데이터 목록
+     * @param setter 각 데이터를 PreparedStatement 파라미터로 설정하는 함수
+     * @return 처리한 데이터 수
+     */
+    public <T> int batchUpdate(String sql, Collection<T> items, ParameterizedPreparedStatementSetter<T> setter) {
+        return execute("UPDATE", sql, items, setter);
+    }
+
+    private <T> int execute(String type, String sql, Collection<T> items, ParameterizedPreparedStatementSetter<T> setter) {
+        if (items.isEmpty()) return 0;
+        long start = System.nanoTime();
+        int[][] results = jdbcTemplate.batchUpdate(sql, items, BATCH_SIZE, setter);
+        log.debug("배치 {} {}건 처리 ({}ms, 배치 {}회)",
+                type, items.size(), (System.nanoTime() - start) / 1_000_000, results.length);
+        return items.size();
+    }
+}
@@ -3,9 +3,9 @@ package com.project.farming.global.oauth;
 import com.project.farming.domain.user.entity.User;
 import com.project.farming.domain.user.entity.UserRole;
 import com.project.farming.domain.user.repository.UserRepository;
+import com.project.farming.global.exception.ImageFileNotFoundException;
 import com.project.farming.global.image.entity.DefaultImages;
-import com.project.farming.global.image.entity.ImageFile;
-import com.project.farming.global.image.service.ImageFileService;
+import com.project.farming.global.image.service.DefaultImageRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -13,7 +13,6 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -22,7 +21,7 @@ import java.util.UUID;
 public class OAuthUserService {
 
     private final UserRepository userRepository;
-    private final ImageFileService imageFileService;
+    private final DefaultImageRegistry defaultImageRegistry;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -89,11 +88,10 @@ public class OAuthUserService {
      * 기본 이미지는 애플리케이션 시작 시 DB에 저장되어 있어야 합니다.
      */
     private void setDefaultProfileImage(User user) {
-        Optional<ImageFile> defaultImageOptional = imageFileService.getImageFileByS3Key(DefaultImages.DEFAULT_USER_IMAGE);
-        if (defaultImageOptional.isPresent()) {
-            user.updateProfileImageFile(defaultImageOptional.get());
+        try {
+            user.updateProfileImageFile(defaultImageRegistry.getDefaultUserImage());
             log.debug("사용자 {}의 프로필 이미지를 기본 이미지({})로 설정했습니다.", user.getEmail(), DefaultImages.DEFAULT_USER_IMAGE);
-        } else {
+        } catch (ImageFileNotFoundException e) {
             log.warn("기본 사용자 프로필 이미지 ({})를 DB에서 찾을 수 없습니다. 사용자 {}에게 프로필 이미지가 설정되지 않습니다.",
                     DefaultImages.DEFAULT_USER_IMAGE, user.getEmail());
         }
@@ -4,6 +4,7 @@ import com.project.farming.global.jwtToken.JwtAuthenticationFilter;
 import com.project.farming.global.oauth.CustomOAuth2UserService;
 import com.project.farming.global.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.project.farming.global.oauth.OAuth2AuthenticationSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -32,6 +33,10 @@ public class SecurityConfig {
             .csrf(c -> c.disable())
 
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(CompletableFuture 등)의 ASYNC 디스패치는 원래 요청에서 이미 인가됨
+                // (JWT 필터는 ASYNC 디스패치에서 다시 실행되지 않으므로 여기서 막으면 응답이 거부됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // --- 1) 인증 없이 허용 ---
                 .requestMatchers("/auth/register").permitAll()
                 .requestMatchers("/auth/login", "/logindashboard", "/login-success").permitAll()
@@ -40,6 +45,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/notify/test").permitAll()
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**", "/webjars/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/", "/home", "/login", "/denied", "/expired", "/css/**", "/favicon.ico").permitAll()
+                .requestMatchers("/local-storage/**").permitAll() // 로컬 파일 저장소(storage.type=local), 업로드는 서명으로 검증
 
                 // --- 2) 인증 필요 ---
                 .requestMatchers("/auth/logout").authenticated()
@@ -48,6 +54,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/plants/**").authenticated()
                 .requestMatchers("/api/user-plants/**").authenticated()
                 .requestMatchers("/api/diaries/**").authenticated()
+                .requestMatchers("/api/home").authenticated()
                 .requestMatchers("/api/notify/**").authenticated()
                 .requestMatchers("/api/alarms/**").authenticated()
                 .requestMatchers("/users/profile/**").authenticated()
@@ -0,0 +1,88 @@
+package com.project.farming.domain.notification.repository;
+
+import com.project.farming.domain.notification.entity.Notification;
+import com.project.farming.domain.user.entity.User;
+import com.project.farming.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 INSERT 성능 비교: JPA saveAll(IDENTITY, 행마다 INSERT) vs JdbcBatchWriter(배치 INSERT)
+ * - 실제 MySQL이 필요하므로 기본 테스트에서는 제외하고 BENCHMARK=true 환경변수가 있을 때만 실행
+ *   (예: BENCHMARK=true BENCHMARK_ROWS=5000 ./gradlew test --tests '*NotificationBulkInsertBenchmarkTest')
+ * - 사용자 한 명에게 같은 알림을 N건 저장하는 방식으로 공지 알림 저장(saveNotice) 경로를 재현
+ * - 테스트 트랜잭션은 끝나면 롤백되므로 데이터는 남지 않음
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class NotificationBulkInsertBenchmarkTest {
+
+    private static final int WARM_UP_ROWS = 200;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compareJpaSaveAllWithJdbcBatchInsert() {
+        List<User> users = userRepository.findAll(PageRequest.of(0, 1)).getContent();
+        Assumptions.assumeFalse(users.isEmpty(), "알림을 저장할 사용자가 한 명 이상 필요합니다.");
+        User user = users.get(0);
+        int rows = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ROWS", "5000"));
+
+        // 커넥션/구문 캐시 준비
+        saveWithJpa(user, WARM_UP_ROWS);
+        saveWithJdbcBatch(user, WARM_UP_ROWS);
+
+        long jpaMillis = saveWithJpa(user, rows);
+        long jdbcMillis = saveWithJdbcBatch(user, rows);
+
+        System.out.printf("알림 %d건 저장 - JPA saveAll: %dms, JDBC 배치: %dms%n", rows, jpaMillis, jdbcMillis);
+        assertThat(notificationRepository.count()).isGreaterThanOrEqualTo(2L * (rows + WARM_UP_ROWS));
+    }
+
+    private long saveWithJpa(User user, int rows) {
+        List<Notification> notifications = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            notifications.add(Notification.builder()
+                    .user(user)
+                    .title("benchmark")
+                    .message("benchmark")
+                    .build());
+        }
+        long start = System.nanoTime();
+        notificationRepository.saveAll(notifications);
+        entityManager.flush();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        entityManager.clear();
+        return elapsed;
+    }
+
+    private long saveWithJdbcBatch(User user, int rows) {
+        List<User> userList = Collections.nCopies(rows, user);
+        long start = System.nanoTime();
+        notificationJdbcRepository.saveAllForUsers(userList, "benchmark", "benchmark");
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.farming.domain.plant.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식물 카탈로그 이름 조회 검증
+ * - 기존 DB 조회(MySQL 기본 collation)처럼 대소문자/앞뒤 공백을 무시하는지 확인
+ */
+class PlantCatalogTest {
+
+    private final PlantCatalog catalog = new PlantCatalog(1L, List.of(
+            PlantCatalogEntry.builder().plantId(1L).plantName("토마토").plantEnglishName("Tomato").build(),
+            PlantCatalogEntry.builder().plantId(2L).plantName(PlantCatalog.OTHER_PLANT_NAME).build()));
+
+    @Test
+    void findByNameIgnoresCaseAndSurroundingSpaces() {
+        assertThat(catalog.findByName("TOMATO")).map(PlantCatalogEntry::getPlantId).contains(1L);
+        assertThat(catalog.findByName("tomato")).map(PlantCatalogEntry::getPlantId).contains(1L);
+        assertThat(catalog.findByName("Tomato ")).map(PlantCatalogEntry::getPlantId).contains(1L);
+        assertThat(catalog.findByName(" 토마토 ")).map(PlantCatalogEntry::getPlantId).contains(1L);
+        assertThat(catalog.containsName("TOMATO")).isTrue();
+    }
+
+    @Test
+    void findByNameReturnsEmptyForUnknownName() {
+        assertThat(catalog.findByName("potato")).isEmpty();
+        assertThat(catalog.findByName(null)).isEmpty();
+    }
+
+    @Test
+    void getOtherPlantStillResolves() {
+        assertThat(catalog.getOtherPlant()).map(PlantCatalogEntry::getPlantId).contains(2L);
+        assertThat(catalog.isOtherPlant(2L)).isTrue();
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.farming.domain.userplant.service;
+
+import com.project.farming.domain.farm.entity.Farm;
+import com.project.farming.domain.plant.entity.Plant;
+import com.project.farming.domain.user.entity.User;
+import com.project.farming.domain.user.entity.UserRole;
+import com.project.farming.domain.userplant.dto.UserPlantResponse;
+import com.project.farming.domain.userplant.entity.UserPlant;
+import com.project.farming.global.image.entity.ImageDomainType;
+import com.project.farming.global.image.entity.ImageFile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 식물 목록/검색의 쿼리 수 검증
+ * - 식물 수(N)와 관계없이 목록은 쿼리 1회, 검색은 인덱스를 불러올 때 쿼리 1회로 처리되는지 확인(N+1 회귀 방지)
+ * - Hibernate Statistics의 PreparedStatement 실행 수로 측정
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class UserPlantQueryCountTest {
+
+    private static final int PLANT_COUNT = 5;
+
+    @Autowired
+    private UserPlantService userPlantService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String suffix = String.valueOf(System.nanoTime());
+
+        User user = User.builder()
+                .email("query-count-" + suffix + "@test.com")
+                .password("password")
+                .nickname("query-count")
+                .role(UserRole.USER)
+                .subscriptionStatus("FREE")
+                .build();
+        entityManager.persist(user);
+        userId = user.getUserId();
+
+        ImageFile plantImage = persistImage(ImageDomainType.PLANT);
+        Plant plant = Plant.builder()
+                .plantName("query-count-" + suffix)
+                .plantImageFile(plantImage)
+                .build();
+        entityManager.persist(plant);
+
+        ImageFile farmImage = persistImage(ImageDomainType.FARM);
+        Farm farm = Farm.builder()
+                .gardenUniqueId((int) (System.nanoTime() % 1_000_000) - 2_000_000)
+                .lotNumberAddress("서울특별시 종로구 테스트동 1")
+                .available(true)
+                .farmImageFile(farmImage)
+                .build();
+        entityManager.persist(farm);
+
+        for (int i = 0; i < PLANT_COUNT; i++) {
+            entityManager.persist(UserPlant.builder()
+                    .user(user)
+                    .plant(plant)
+                    .plantName("토마토")
+                    .plantNickname("토마토" + i)
+                    .farm(farm)
+                    .waterIntervalDays(3)
+                    .pruneIntervalDays(7)
+                    .fertilizeIntervalDays(14)
+                    .userPlantImageFile(persistImage(ImageDomainType.USERPLANT))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllUserPlantsRunsOneQuery() {
+        List<UserPlantResponse> result = userPlantService.findAllUserPlants(userId);
+
+        assertThat(result).hasSize(PLANT_COUNT);
+        assertThat(result).allSatisfy(response -> assertThat(response.getUserPlantImageUrl()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findUserPlantsByKeywordRunsOneQuery() {
+        Page<UserPlantResponse> result = userPlantService.findUserPlantsByKeyword(userId, "ㅌㅁㅌ", PageRequest.of(0, 20));
+
+        assertThat(result.getContent()).hasSize(PLANT_COUNT);
+        assertThat(result.getContent()).allSatisfy(response -> assertThat(response.getUserPlantImageUrl()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 같은 사용자의 다음 검색은 메모리 인덱스만 사용
+        userPlantService.findUserPlantsByKeyword(userId, "토마토", PageRequest.of(0, 20));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private ImageFile persistImage(ImageDomainType domainType) {
+        ImageFile imageFile = ImageFile.builder()
+                .imageUrl("https://example.com/" + domainType.name().toLowerCase() + "/" + System.nanoTime() + ".jpg")
+                .domainType(domainType)
+                .domainId(0L)
+                .build();
+        entityManager.persist(imageFile);
+        return imageFile;
+    }
+}